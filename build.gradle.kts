@@ -53,7 +53,18 @@ tasks.spotbugsMain {
     }
 }
 
+// row operations on primitive doubles use the incubating vector api, they fall back to scalar loops if the module
+// is not added at runtime
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+tasks.withType<JavaCompile> {
+    options.compilerArgs.addAll(vectorModule)
+}
+tasks.withType<JavaExec> {
+    jvmArgs(vectorModule)
+}
+
 tasks.test {
+    jvmArgs(vectorModule)
     useJUnitPlatform {
         includeTags = setOf("integration", "unit")
     }
@@ -1,12 +1,16 @@
 package com.danielptv.simplex.command;
 
-import com.danielptv.simplex.entity.Phase;
 import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.number.DoubleDouble;
+import com.danielptv.simplex.number.FloatingPoint;
 import com.danielptv.simplex.number.Fraction;
 import com.danielptv.simplex.number.RoundedDecimal;
-import com.danielptv.simplex.service.TableBuildService;
-import com.danielptv.simplex.service.TableCalcService;
-import com.danielptv.simplex.service.TableExtensionService;
+import com.danielptv.simplex.number.ScaledDecimal;
+import com.danielptv.simplex.service.AdaptiveSimplex;
+import com.danielptv.simplex.service.CertifiedSimplex;
+import com.danielptv.simplex.service.ModularSimplex;
+import com.danielptv.simplex.service.RevisedSimplex;
+import com.danielptv.simplex.service.SimplexEngine;
 import com.danielptv.simplex.service.TwoPhaseSimplex;
 import com.danielptv.simplex.shell.EditType;
 import com.danielptv.simplex.shell.InputResult;
@@ -22,15 +26,26 @@ import org.springframework.shell.standard.ShellMethod;
 import org.springframework.shell.standard.ShellOption;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 @ShellComponent
 @RequiredArgsConstructor
 public class Simplex {
-    private static final String ROUND_HELP = "Mantissa length to round to, i.e. [2]. Pass [false] to disable rounding.";
+    private static final String ROUND_HELP = "Mantissa length to round to, i.e. [2]. Pass [false] to disable rounding, " +
+            "[float] to calculate with floating point numbers, [double-double] to calculate with pairs of floating " +
+            "point numbers or [adaptive] to switch from floating point numbers to fractions once they lose too much " +
+            "precision.";
     private static final String MIN_HELP = "Pass to minimize the problem, omit otherwise.";
-    private static final String ROUND_PATTERN = "^(false|\\d{1,2})$";
+    private static final String ENGINE_HELP = "Engine used for exact calculations, i.e. [tableau]. Pass [modular] to " +
+            "pivot in several prime fields in parallel, [certified] to solve with floating point numbers first and " +
+            "certify the result with fractions or [revised] to factorize the basis instead of updating the table.";
+    private static final String BOUNDS_HELP = "Pass to keep constraints on a single variable as bounds of the " +
+            "variable instead of rows of the table, omit otherwise.";
+    private static final String RESULT_HELP = "Pass to display the optimal solution only, omit to display every " +
+            "intermediate table.";
+    private static final String ROUND_PATTERN = "^(false|float|double-double|adaptive|\\d{1,2})$";
+    private static final String ENGINE_PATTERN = "^(tableau|modular|certified|revised)$";
     private static final int MIN_COUNT = 1;
     private static final int MAX_COUNT = 10;
     private final OutputHelper outputHelper;
@@ -46,8 +61,17 @@ public class Simplex {
             @Min(MIN_COUNT) @Max(MAX_COUNT) final int constCount,
             @ShellOption(value = {"-r", "--round"}, defaultValue = "false", help = ROUND_HELP)
             @Pattern(regexp = ROUND_PATTERN) final String roundMode,
-            @ShellOption(value = {"-m", "--min"}, help = MIN_HELP) final boolean minimize
+            @ShellOption(value = {"-m", "--min"}, help = MIN_HELP) final boolean minimize,
+            @ShellOption(value = {"-e", "--engine"}, defaultValue = "tableau", help = ENGINE_HELP)
+            @Pattern(regexp = ENGINE_PATTERN) final String engine,
+            @ShellOption(value = {"-b", "--bounds"}, help = BOUNDS_HELP) final boolean bounded,
+            @ShellOption(value = {"-o", "--result-only"}, help = RESULT_HELP) final boolean resultOnly
     ) {
+        final var error = validate(engine, roundMode, bounded);
+        if (error != null) {
+            outputHelper.print(outputHelper.getErrorMessage(error));
+            return;
+        }
         var objectiveFunction = helperComponent.simplexInput(
                 "Objective function:",
                 varCount,
@@ -87,45 +111,103 @@ public class Simplex {
         }
 
         outputHelper.print(String.format("%n"));
-        final List<Phase<? extends CalculableImpl<?>>> phases;
-        if ("false".equals(roundMode)) {
-            final var number = new Fraction();
-            phases = executeSimplex(
-                    number,
-                    varCount,
-                    constCount,
-                    minimize,
-                    objectiveFunction.getValues(),
-                    constraints.stream().map(InputResult::getValues).toList()
+        final var problem = new SimplexProblem(
+                varCount,
+                constCount,
+                minimize,
+                objectiveFunction.getValues(),
+                constraints.stream().map(InputResult::getValues).toList(),
+                bounded
+        );
+        outputHelper.print(calculate(engine, roundMode, resultOnly, problem).toString());
+    }
+
+    private static String validate(final String engine, final String roundMode, final boolean bounded) {
+        if (!"tableau".equals(engine) && !"false".equals(roundMode)) {
+            return "The " + engine + " engine requires --round false.";
+        }
+        if (bounded && (!"tableau".equals(engine) || "adaptive".equals(roundMode))) {
+            return "Bounds require the tableau engine and cannot be combined with --round adaptive.";
+        }
+        return null;
+    }
+
+    private StringBuilder calculate(
+            final String engine,
+            final String roundMode,
+            final boolean resultOnly,
+            final SimplexProblem problem
+    ) {
+        final var fractionEngine = fractionEngine(engine, roundMode);
+        final StringBuilder output;
+        if (fractionEngine != null) {
+            output = executeSimplex(
+                    new Fraction(),
+                    fractionEngine,
+                    resultOnly,
+                    problem
+            );
+        } else if ("float".equals(roundMode)) {
+            output = executeSimplex(
+                    new FloatingPoint(),
+                    simplex -> simplex,
+                    resultOnly,
+                    problem
+            );
+        } else if ("double-double".equals(roundMode)) {
+            output = executeSimplex(
+                    new DoubleDouble(),
+                    simplex -> simplex,
+                    resultOnly,
+                    problem
+            );
+        } else if (ScaledDecimal.isSupported(Integer.parseInt(roundMode))) {
+            // short mantissas fit into a long, so the scaled representation avoids big decimal arithmetic
+            output = executeSimplex(
+                    ScaledDecimal.of(Integer.parseInt(roundMode)),
+                    simplex -> simplex,
+                    resultOnly,
+                    problem
             );
         } else {
-            final var number = new RoundedDecimal(Integer.parseInt(roundMode));
-            phases = executeSimplex(
-                    number,
-                    varCount,
-                    constCount,
-                    minimize,
-                    objectiveFunction.getValues(),
-                    constraints.stream().map(InputResult::getValues).toList()
+            output = executeSimplex(
+                    new RoundedDecimal(Integer.parseInt(roundMode)),
+                    simplex -> simplex,
+                    resultOnly,
+                    problem
             );
         }
-        outputHelper.print(simplexOutput.printResult(phases).toString());
+        return output;
     }
 
-    <T extends CalculableImpl<T>> List<Phase<? extends CalculableImpl<?>>> executeSimplex(
+    // engines calculating with fractions, null if the round mode calculates with other numbers
+    private static Function<TwoPhaseSimplex<Fraction>, SimplexEngine<Fraction>> fractionEngine(
+            final String engine,
+            final String roundMode
+    ) {
+        if ("adaptive".equals(roundMode)) {
+            return AdaptiveSimplex::new;
+        }
+        return switch (engine) {
+            case "modular" -> ModularSimplex::new;
+            case "certified" -> CertifiedSimplex::new;
+            case "revised" -> RevisedSimplex::new;
+            default -> "false".equals(roundMode) ? simplex -> simplex : null;
+        };
+    }
+
+    <T extends CalculableImpl<T>> StringBuilder executeSimplex(
             final T number,
-            final int varCount,
-            final int constCount,
-            final boolean minimize,
-            final List<String> objectiveFunction,
-            final List<List<String>> constraints
+            final Function<TwoPhaseSimplex<T>, SimplexEngine<T>> engine,
+            final boolean resultOnly,
+            final SimplexProblem problem
     ) {
-        final var calcService = new TableCalcService<>(number);
-        final var extensionService = new TableExtensionService<>(number, calcService);
-        final var buildService = new TableBuildService<>(number, varCount, constCount, minimize, calcService);
-        final var simplex = new TwoPhaseSimplex<>(number, calcService, extensionService);
-        final var table = buildService.build(objectiveFunction, constraints);
-        final var result = simplex.calc(table);
-        return new ArrayList<>(result);
+        final var estimate = problem.estimate(number);
+        final var table = problem.build(number, estimate.storage());
+        final var simplexEngine = engine.apply(TwoPhaseSimplex.of(number, estimate.checkpointInterval()));
+        if (resultOnly) {
+            return simplexOutput.printSolution(simplexEngine.solve(table));
+        }
+        return simplexOutput.printResult(new ArrayList<>(simplexEngine.calc(table)));
     }
 }
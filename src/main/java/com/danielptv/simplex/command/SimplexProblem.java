@@ -0,0 +1,45 @@
+package com.danielptv.simplex.command;
+
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.TableauStorage;
+import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.service.MemoryEstimator;
+import com.danielptv.simplex.service.TableBuildService;
+import com.danielptv.simplex.service.TableCalcService;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.List;
+
+@SuppressFBWarnings("EI_EXPOSE_REP")
+record SimplexProblem(
+        int varCount,
+        int constCount,
+        boolean minimize,
+        List<String> objectiveFunction,
+        List<List<String>> constraints,
+        boolean bounded
+) {
+    <T extends CalculableImpl<T>> MemoryEstimator.Estimate estimate(final T number) {
+        final var rows = rows(number);
+        return new MemoryEstimator<>(number, varCount, rows.size()).estimate(rows);
+    }
+
+    <T extends CalculableImpl<T>> SimplexTable<T> build(final T number, final TableauStorage storage) {
+        final var calcService = new TableCalcService<>(number);
+        final var rows = rows(number);
+        final var buildService = new TableBuildService<>(number, varCount, rows.size(), minimize, calcService);
+        return buildService.build(objectiveFunction, rows, bounds(number), storage);
+    }
+
+    // constraints that are not kept as bounds of a variable
+    private <T extends CalculableImpl<T>> List<List<String>> rows(final T number) {
+        final var bounds = bounds(number);
+        return constraints.stream()
+                .filter(constraint -> !bounds.contains(constraint))
+                .toList();
+    }
+
+    private <T extends CalculableImpl<T>> List<List<String>> bounds(final T number) {
+        return bounded ? TableBuildService.getBounds(constraints, number) : List.of();
+    }
+}
@@ -0,0 +1,34 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.List;
+
+import static com.danielptv.simplex.number.InfinityType.POSITIVE;
+
+// bounds of the variables of a table, the lower bounds are subtracted when the table is built, so a column holds the
+// distance of its variable to the lower bound and the upper bounds are relative to it, complemented columns hold the
+// distance to the upper bound instead, columns of helper variables are not bounded
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public record Bounds<T extends CalculableImpl<T>>(List<T> lower, List<T> upper, boolean[] complemented) {
+    public T upper(final int column) {
+        return column < upper.size() ? upper.get(column) : upper.get(0).toInfinity(POSITIVE);
+    }
+
+    public boolean isComplemented(final int column) {
+        return column < complemented.length && complemented[column];
+    }
+
+    public Bounds<T> complement(final int column) {
+        final var result = complemented.clone();
+        result[column] = !result[column];
+        return new Bounds<>(lower, upper, result);
+    }
+
+    // value of a variable from the value of its column
+    public T value(final int column, final T distance) {
+        final var shifted = isComplemented(column) ? upper.get(column).subtract(distance) : distance;
+        return lower.get(column).add(shifted);
+    }
+}
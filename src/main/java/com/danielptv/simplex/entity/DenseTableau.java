@@ -0,0 +1,103 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// array of all entries per row, zeros share a single instance, copies share their rows until one of them writes a row
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public final class DenseTableau<T extends CalculableImpl<T>> implements Tableau<T> {
+    @Getter
+    private final int rows;
+    @Getter
+    private final int columns;
+    @Getter
+    private final T generator;
+    private final Object[][] entries;
+    private final boolean[] owned;
+
+    public DenseTableau(final int rows, final int columns, final T generator) {
+        this(rows, columns, generator, new Object[rows][]);
+        for (int row = 0; row < rows; ++row) {
+            entries[row] = new Object[columns + 1];
+            Arrays.fill(entries[row], generator.zero());
+            owned[row] = true;
+        }
+    }
+
+    private DenseTableau(final int rows, final int columns, final T generator, final Object[][] entries) {
+        this.rows = rows;
+        this.columns = columns;
+        this.generator = generator;
+        this.entries = entries;
+        owned = new boolean[rows];
+    }
+
+    // the copy shares the rows, so it is as cheap as copying a reference per row, both tableaus give up ownership of
+    // the shared rows and copy a row before writing it
+    @Override
+    public Tableau<T> copy() {
+        Arrays.fill(owned, false);
+        return new DenseTableau<>(rows, columns, generator, entries.clone());
+    }
+
+    @Override
+    public <U extends CalculableImpl<U>> Tableau<U> create(final int rowCount, final int columnCount, final U number) {
+        return new DenseTableau<>(rowCount, columnCount, number);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(final int row, final int column) {
+        return (T) entries[row][column];
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        writable(row)[column] = value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void divideRow(final int row, final T divisor) {
+        final var entry = writable(row);
+        for (int column = 0; column <= columns; ++column) {
+            entry[column] = ((T) entry[column]).divide(divisor);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void subtractRow(final int target, final int source) {
+        final var targetEntry = writable(target);
+        final var sourceEntry = entries[source];
+        for (int column = 0; column <= columns; ++column) {
+            targetEntry[column] = ((T) targetEntry[column]).subtract((T) sourceEntry[column]);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void axpyRow(final int target, final T factor, final int source) {
+        final var targetEntry = writable(target);
+        final var sourceEntry = entries[source];
+        for (int column = 0; column <= columns; ++column) {
+            final var value = (T) sourceEntry[column];
+            if (value.isZero()) {
+                continue;
+            }
+            targetEntry[column] = ((T) targetEntry[column]).fma(factor, value);
+        }
+    }
+
+    // rows shared with other tableaus are copied before they are written
+    private Object[] writable(final int row) {
+        if (!owned[row]) {
+            entries[row] = entries[row].clone();
+            owned[row] = true;
+        }
+        return entries[row];
+    }
+}
@@ -0,0 +1,133 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+
+// tableau of phase 1, the auxiliary criterion line and the helper columns are kept apart from the base tableau, so
+// phase 2 starts on the base tableau without copying it
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public final class ExtendedTableau<T extends CalculableImpl<T>> implements Tableau<T> {
+    @Getter
+    private final Tableau<T> base;
+    // the right-hand side of the criterion line is the right-hand side of this tableau
+    private final Tableau<T> criterion;
+    // row 0 holds the helper columns of the criterion line, all other rows the ones of the base rows
+    private final Tableau<T> helpers;
+
+    public ExtendedTableau(final Tableau<T> base, final int helperColumns) {
+        this(
+                base,
+                base.create(1, base.getColumns(), base.getGenerator()),
+                base.create(base.getRows() + 1, helperColumns, base.getGenerator())
+        );
+    }
+
+    private ExtendedTableau(final Tableau<T> base, final Tableau<T> criterion, final Tableau<T> helpers) {
+        this.base = base;
+        this.criterion = criterion;
+        this.helpers = helpers;
+    }
+
+    @Override
+    public int getRows() {
+        return base.getRows() + 1;
+    }
+
+    @Override
+    public int getColumns() {
+        return base.getColumns() + helpers.getColumns();
+    }
+
+    @Override
+    public T getGenerator() {
+        return base.getGenerator();
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        if (isHelper(column)) {
+            return helpers.get(row, column - base.getColumns());
+        }
+        final var baseColumn = column == getColumns() ? base.getColumns() : column;
+        return row == 0 ? criterion.get(0, baseColumn) : base.get(row - 1, baseColumn);
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        if (isHelper(column)) {
+            helpers.set(row, column - base.getColumns(), value);
+            return;
+        }
+        final var baseColumn = column == getColumns() ? base.getColumns() : column;
+        if (row == 0) {
+            criterion.set(0, baseColumn, value);
+        } else {
+            base.set(row - 1, baseColumn, value);
+        }
+    }
+
+    @Override
+    public Tableau<T> copy() {
+        return new ExtendedTableau<>(base.copy(), criterion.copy(), helpers.copy());
+    }
+
+    @Override
+    public <U extends CalculableImpl<U>> Tableau<U> create(final int rowCount, final int columnCount, final U number) {
+        return base.create(rowCount, columnCount, number);
+    }
+
+    @Override
+    public void divideRow(final int row, final T divisor) {
+        part(row).divideRow(partRow(row), divisor);
+        helpers.divideRow(row, divisor);
+    }
+
+    @Override
+    public void subtractRow(final int target, final int source) {
+        if (target != 0 && source != 0) {
+            base.subtractRow(target - 1, source - 1);
+        } else {
+            final var targetPart = part(target);
+            final var sourcePart = part(source);
+            for (int column = 0; column <= base.getColumns(); ++column) {
+                final var value = targetPart.get(partRow(target), column);
+                targetPart.set(partRow(target), column, value.subtract(sourcePart.get(partRow(source), column)));
+            }
+        }
+        helpers.subtractRow(target, source);
+    }
+
+    @Override
+    public void axpyRow(final int target, final T factor, final int source) {
+        if (target != 0 && source != 0) {
+            base.axpyRow(target - 1, factor, source - 1);
+        } else {
+            // the criterion line is involved, so the rows are in different tableaus
+            final var targetPart = part(target);
+            final var sourcePart = part(source);
+            for (int column = 0; column <= base.getColumns(); ++column) {
+                final var sourceEntry = sourcePart.get(partRow(source), column);
+                if (sourceEntry.isZero()) {
+                    continue;
+                }
+                final var targetEntry = targetPart.get(partRow(target), column);
+                targetPart.set(partRow(target), column, targetEntry.fma(factor, sourceEntry));
+            }
+        }
+        helpers.axpyRow(target, factor, source);
+    }
+
+    private boolean isHelper(final int column) {
+        return column >= base.getColumns() && column < getColumns();
+    }
+
+    // tableau holding the columns of the base tableau of a row
+    private Tableau<T> part(final int row) {
+        return row == 0 ? criterion : base;
+    }
+
+    private static int partRow(final int row) {
+        return Math.max(row - 1, 0);
+    }
+}
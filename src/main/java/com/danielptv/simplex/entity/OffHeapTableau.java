@@ -0,0 +1,184 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.number.FloatingPoint;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+// primitive doubles outside of the heap, either in direct buffers or mapped from a temporary file, rows are split
+// into chunks as a single buffer is limited to 2 GB, infinite entries are stored as infinite doubles
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public final class OffHeapTableau implements Tableau<FloatingPoint> {
+    private static final int MAX_CHUNK_ENTRIES = Integer.MAX_VALUE / Double.BYTES;
+    @Getter
+    private final int rows;
+    @Getter
+    private final int columns;
+    @Getter
+    private final FloatingPoint generator;
+    @Getter
+    private final boolean mapped;
+    private final int rowsPerChunk;
+    private final DoubleBuffer[] chunks;
+
+    public OffHeapTableau(final int rows, final int columns, final FloatingPoint generator, final boolean mapped) {
+        this.rows = rows;
+        this.columns = columns;
+        this.generator = generator;
+        this.mapped = mapped;
+        rowsPerChunk = Math.max(1, MAX_CHUNK_ENTRIES / (columns + 1));
+        chunks = mapped ? map(rows, columns + 1, rowsPerChunk) : allocate(rows, columns + 1, rowsPerChunk);
+    }
+
+    // only floating point numbers can be stored as primitives, other numbers are stored dense
+    @SuppressWarnings("unchecked")
+    public static <T extends CalculableImpl<T>> Tableau<T> of(
+            final int rows,
+            final int columns,
+            final T generator,
+            final boolean mapped
+    ) {
+        if (generator instanceof FloatingPoint f) {
+            return (Tableau<T>) (Tableau<?>) new OffHeapTableau(rows, columns, f, mapped);
+        }
+        return new DenseTableau<>(rows, columns, generator);
+    }
+
+    @Override
+    public Tableau<FloatingPoint> copy() {
+        final var result = new OffHeapTableau(rows, columns, generator, mapped);
+        for (int chunk = 0; chunk < chunks.length; ++chunk) {
+            result.chunks[chunk].put(0, chunks[chunk], 0, chunks[chunk].capacity());
+        }
+        return result;
+    }
+
+    @Override
+    public <U extends CalculableImpl<U>> Tableau<U> create(final int rowCount, final int columnCount, final U number) {
+        return of(rowCount, columnCount, number, mapped);
+    }
+
+    @Override
+    public FloatingPoint get(final int row, final int column) {
+        return PrimitiveRows.toFloatingPoint(load(row, column), generator);
+    }
+
+    @Override
+    public void set(final int row, final int column, final FloatingPoint value) {
+        store(row, column, PrimitiveRows.toDouble(value));
+    }
+
+    @Override
+    public void divideRow(final int row, final FloatingPoint divisor) {
+        final var d = PrimitiveRows.toDouble(divisor);
+        if (d == 0) {
+            throw new ArithmeticException();
+        }
+        final var tolerance = generator.getTolerance();
+        for (int column = 0; column <= columns; ++column) {
+            final var value = load(row, column);
+            if (Double.isInfinite(value) || Double.isInfinite(d)) {
+                set(row, column, get(row, column).divide(divisor));
+            } else {
+                store(row, column, tolerance.snap(value / d));
+            }
+        }
+    }
+
+    @Override
+    public void subtractRow(final int target, final int source) {
+        final var tolerance = generator.getTolerance();
+        for (int column = 0; column <= columns; ++column) {
+            final var targetValue = load(target, column);
+            final var sourceValue = load(source, column);
+            if (Double.isInfinite(targetValue) || Double.isInfinite(sourceValue)) {
+                set(target, column, get(target, column).subtract(get(source, column)));
+            } else {
+                store(target, column, tolerance.snap(targetValue - sourceValue));
+            }
+        }
+    }
+
+    // floating point numbers accumulate with a fused multiply-add, which is done on the primitives directly
+    @Override
+    public void axpyRow(final int target, final FloatingPoint factor, final int source) {
+        final var f = PrimitiveRows.toDouble(factor);
+        final var tolerance = generator.getTolerance();
+        for (int column = 0; column <= columns; ++column) {
+            final var sourceValue = load(source, column);
+            if (sourceValue == 0) {
+                continue;
+            }
+            final var targetValue = load(target, column);
+            if (Double.isInfinite(f) || Double.isInfinite(sourceValue) || Double.isInfinite(targetValue)) {
+                set(target, column, get(target, column).fma(factor, get(source, column)));
+            } else {
+                store(target, column, tolerance.snap(Math.fma(f, sourceValue, targetValue)));
+            }
+        }
+    }
+
+    private double load(final int row, final int column) {
+        return chunks[row / rowsPerChunk].get(offset(row, column));
+    }
+
+    private void store(final int row, final int column, final double value) {
+        chunks[row / rowsPerChunk].put(offset(row, column), value);
+    }
+
+    private int offset(final int row, final int column) {
+        return row % rowsPerChunk * (columns + 1) + column;
+    }
+
+    private static DoubleBuffer[] allocate(final int rows, final int stride, final int rowsPerChunk) {
+        final var chunks = new DoubleBuffer[chunkCount(rows, rowsPerChunk)];
+        for (int chunk = 0; chunk < chunks.length; ++chunk) {
+            final var size = chunkRows(rows, rowsPerChunk, chunk) * stride * Double.BYTES;
+            chunks[chunk] = ByteBuffer.allocateDirect(size).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+        return chunks;
+    }
+
+    // the mapping stays valid after the file has been closed and deleted
+    private static DoubleBuffer[] map(final int rows, final int stride, final int rowsPerChunk) {
+        final var chunks = new DoubleBuffer[chunkCount(rows, rowsPerChunk)];
+        try {
+            final var file = Files.createTempFile("tableau", ".bin");
+            try (var channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE
+            )) {
+                long position = 0;
+                for (int chunk = 0; chunk < chunks.length; ++chunk) {
+                    final long size = (long) chunkRows(rows, rowsPerChunk, chunk) * stride * Double.BYTES;
+                    chunks[chunk] = channel.map(FileChannel.MapMode.READ_WRITE, position, size)
+                            .order(ByteOrder.nativeOrder())
+                            .asDoubleBuffer();
+                    position += size;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chunks;
+    }
+
+    private static int chunkCount(final int rows, final int rowsPerChunk) {
+        return Math.max(1, (rows + rowsPerChunk - 1) / rowsPerChunk);
+    }
+
+    private static int chunkRows(final int rows, final int rowsPerChunk, final int chunk) {
+        return Math.min(rowsPerChunk, rows - chunk * rowsPerChunk);
+    }
+}
@@ -0,0 +1,83 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.FloatingPoint;
+import com.danielptv.simplex.number.FloatingPoint.Tolerance;
+import com.danielptv.simplex.number.InfinityType;
+
+// row operations on primitive doubles, the vector api is used if its incubating module has been added to the jvm,
+// the results of both are the same as the ones of the floating point numbers
+final class PrimitiveRows {
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private PrimitiveRows() {
+    }
+
+    static FloatingPoint toFloatingPoint(final double value, final FloatingPoint generator) {
+        if (value == 0) {
+            return generator.zero();
+        }
+        if (Double.isInfinite(value)) {
+            return generator.toInfinity(value > 0 ? InfinityType.POSITIVE : InfinityType.NEGATIVE);
+        }
+        return new FloatingPoint(value, generator.getTolerance());
+    }
+
+    static double toDouble(final FloatingPoint value) {
+        if (value.isInfinite()) {
+            return value.signum() > 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return value.getValue();
+    }
+
+    static void divide(final double[] row, final double divisor, final Tolerance tolerance) {
+        if (VECTORIZED) {
+            VectorRows.divide(row, divisor, tolerance);
+        } else {
+            divide(row, 0, divisor, tolerance);
+        }
+    }
+
+    // the scalar loops start at an offset, so the vector loops can leave the tail to them
+    static void divide(final double[] row, final int from, final double divisor, final Tolerance tolerance) {
+        for (int i = from; i < row.length; ++i) {
+            row[i] = tolerance.snap(row[i] / divisor);
+        }
+    }
+
+    static void subtract(final double[] target, final double[] source, final Tolerance tolerance) {
+        if (VECTORIZED) {
+            VectorRows.subtract(target, source, tolerance);
+        } else {
+            subtract(target, source, 0, tolerance);
+        }
+    }
+
+    static void subtract(final double[] target, final double[] source, final int from, final Tolerance tolerance) {
+        for (int i = from; i < target.length; ++i) {
+            target[i] = tolerance.snap(target[i] - source[i]);
+        }
+    }
+
+    // target += factor * source, entries with a zero source entry are kept
+    static void axpy(final double[] target, final double factor, final double[] source, final Tolerance tolerance) {
+        if (VECTORIZED) {
+            VectorRows.axpy(target, factor, source, tolerance);
+        } else {
+            axpy(target, factor, source, 0, tolerance);
+        }
+    }
+
+    static void axpy(
+            final double[] target,
+            final double factor,
+            final double[] source,
+            final int from,
+            final Tolerance tolerance
+    ) {
+        for (int i = from; i < target.length; ++i) {
+            if (source[i] != 0) {
+                target[i] = tolerance.snap(Math.fma(factor, source[i], target[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.number.FloatingPoint;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+// floating point numbers as an array of primitive doubles per row, copies share their rows until one of them writes a
+// row, infinite entries are stored as infinite doubles and rows holding them are calculated entry by entry
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public final class PrimitiveTableau implements Tableau<FloatingPoint> {
+    @Getter
+    private final int rows;
+    @Getter
+    private final int columns;
+    @Getter
+    private final FloatingPoint generator;
+    private final double[][] entries;
+    private final boolean[] owned;
+    private final boolean[] infinite;
+
+    public PrimitiveTableau(final int rows, final int columns, final FloatingPoint generator) {
+        this(rows, columns, generator, new double[rows][columns + 1], new boolean[rows]);
+        Arrays.fill(owned, true);
+    }
+
+    private PrimitiveTableau(
+            final int rows,
+            final int columns,
+            final FloatingPoint generator,
+            final double[][] entries,
+            final boolean[] infinite
+    ) {
+        this.rows = rows;
+        this.columns = columns;
+        this.generator = generator;
+        this.entries = entries;
+        this.infinite = infinite;
+        owned = new boolean[rows];
+    }
+
+    // only floating point numbers can be stored as primitives, other numbers are stored dense
+    @SuppressWarnings("unchecked")
+    public static <T extends CalculableImpl<T>> Tableau<T> of(final int rows, final int columns, final T generator) {
+        if (generator instanceof FloatingPoint f) {
+            return (Tableau<T>) (Tableau<?>) new PrimitiveTableau(rows, columns, f);
+        }
+        return new DenseTableau<>(rows, columns, generator);
+    }
+
+    @Override
+    public Tableau<FloatingPoint> copy() {
+        Arrays.fill(owned, false);
+        return new PrimitiveTableau(rows, columns, generator, entries.clone(), infinite.clone());
+    }
+
+    @Override
+    public <U extends CalculableImpl<U>> Tableau<U> create(final int rowCount, final int columnCount, final U number) {
+        return of(rowCount, columnCount, number);
+    }
+
+    @Override
+    public FloatingPoint get(final int row, final int column) {
+        return PrimitiveRows.toFloatingPoint(entries[row][column], generator);
+    }
+
+    @Override
+    public void set(final int row, final int column, final FloatingPoint value) {
+        writable(row)[column] = PrimitiveRows.toDouble(value);
+        infinite[row] |= value.isInfinite();
+    }
+
+    @Override
+    public void divideRow(final int row, final FloatingPoint divisor) {
+        if (divisor.isInfinite() || infinite[row]) {
+            for (int column = 0; column <= columns; ++column) {
+                set(row, column, get(row, column).divide(divisor));
+            }
+        } else if (divisor.isZero()) {
+            throw new ArithmeticException();
+        } else {
+            PrimitiveRows.divide(writable(row), divisor.getValue(), generator.getTolerance());
+        }
+    }
+
+    @Override
+    public void subtractRow(final int target, final int source) {
+        if (infinite[target] || infinite[source]) {
+            for (int column = 0; column <= columns; ++column) {
+                set(target, column, get(target, column).subtract(get(source, column)));
+            }
+        } else {
+            PrimitiveRows.subtract(writable(target), entries[source], generator.getTolerance());
+        }
+    }
+
+    @Override
+    public void axpyRow(final int target, final FloatingPoint factor, final int source) {
+        if (factor.isInfinite() || infinite[target] || infinite[source]) {
+            for (int column = 0; column <= columns; ++column) {
+                final var sourceEntry = get(source, column);
+                if (!sourceEntry.isZero()) {
+                    set(target, column, get(target, column).fma(factor, sourceEntry));
+                }
+            }
+        } else {
+            PrimitiveRows.axpy(writable(target), factor.getValue(), entries[source], generator.getTolerance());
+        }
+    }
+
+    // same as the default, without boxing the entries
+    @Override
+    public int getMinIndex(final int row) {
+        if (infinite[row]) {
+            return Tableau.super.getMinIndex(row);
+        }
+        final var entry = entries[row];
+        final var tolerance = generator.getTolerance();
+        var min = 0;
+        for (int column = 1; column < columns; ++column) {
+            if (tolerance.compare(entry[column], entry[min]) < 0) {
+                min = column;
+            }
+        }
+        var first = 0;
+        while (tolerance.compare(entry[first], entry[min]) != 0) {
+            ++first;
+        }
+        return first;
+    }
+
+    // rows shared with other tableaus are copied before they are written
+    private double[] writable(final int row) {
+        if (!owned[row]) {
+            entries[row] = entries[row].clone();
+            owned[row] = true;
+        }
+        return entries[row];
+    }
+}
@@ -0,0 +1,42 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// solution of a problem without the tables it was calculated with, the basis lists the basic column of every row
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public record SimplexResult<T extends CalculableImpl<T>>(
+        T objectiveValue,
+        List<T> variableValues,
+        List<Integer> basis,
+        SpecialSolutionType specialSolutionType
+) {
+    public static <T extends CalculableImpl<T>> SimplexResult<T> of(
+            final SimplexTable<T> table,
+            final SpecialSolutionType specialSolutionType
+    ) {
+        final var tableau = table.tableau();
+        final var variables = table.variables();
+        final var basis = Arrays.stream(table.basis()).boxed().toList();
+
+        // columns that are not basic are zero, bounded variables are shifted by their bounds
+        final var variableValues = IntStream.range(0, variables.size())
+                .filter(column -> variables.get(column) == VariableKind.STRUCTURAL)
+                .mapToObj(column -> {
+                    final var row = basis.indexOf(column);
+                    final var value = row < 0 ? tableau.getGenerator().zero() : tableau.getRhs(row);
+                    return table.bounds() == null ? value : table.bounds().value(column, value);
+                })
+                .toList();
+        return new SimplexResult<>(
+                tableau.getRhs(0),
+                variableValues,
+                basis.subList(table.helperColumns() != 0 ? 2 : 1, basis.size()),
+                specialSolutionType
+        );
+    }
+}
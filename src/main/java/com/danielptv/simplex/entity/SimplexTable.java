@@ -5,18 +5,18 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.util.List;
 
-@SuppressWarnings("RecordComponentNumber")
+// the basis holds the column of the basic variable of every row or -1 for objective rows, columns of helper variables
+// that are not part of the table (yet or anymore) follow after the last column, tables without bounded variables have
+// no bounds
 @SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
 public record SimplexTable<T extends CalculableImpl<T>>(
         String title,
-        List<Row<T>> lHS,
-        List<T> rHS,
+        Tableau<T> tableau,
         Pivot<T> pivot,
-        List<String> columnHeaders,
-        List<String> rowHeaders,
-        int rows,
-        int columns,
-        int helperColumns
+        List<VariableKind> variables,
+        int[] basis,
+        int helperColumns,
+        Bounds<T> bounds
 ) {
     @SuppressWarnings("ParameterNumber")
     public SimplexTable(
@@ -24,40 +24,53 @@ public record SimplexTable<T extends CalculableImpl<T>>(
             final List<Row<T>> lHS,
             final List<T> rHS,
             final Pivot<T> pivot,
-            final List<String> columnHeaders,
-            final List<String> rowHeaders,
-            final int helperColumns
+            final List<VariableKind> variables,
+            final int[] basis,
+            final int helperColumns,
+            final Bounds<T> bounds
     ) {
-        this(
-                title,
-                lHS,
-                rHS,
-                pivot,
-                columnHeaders,
-                rowHeaders,
-                lHS.size(),
-                lHS.get(0).entries().size(),
-                helperColumns
-        );
-
+        this(title, Tableau.of(lHS, rHS), pivot, variables, basis, helperColumns, bounds);
     }
 
     public SimplexTable(final SimplexTable<T> table, final String title) {
         this(
                 title,
-                table.lHS,
-                table.rHS,
+                table.tableau,
                 table.pivot,
-                table.columnHeaders,
-                table.rowHeaders,
-                table.rows,
-                table.columns,
-                table.helperColumns
+                table.variables,
+                table.basis,
+                table.helperColumns,
+                table.bounds
         );
     }
 
+    public List<Row<T>> lHS() {
+        return tableau.lHS();
+    }
+
+    public List<T> rHS() {
+        return tableau.rHS();
+    }
+
+    public int rows() {
+        return tableau.getRows();
+    }
+
+    public int columns() {
+        return tableau.getColumns();
+    }
+
+    // kind of the basic variable of a row, null for objective rows
+    public VariableKind basisKind(final int row) {
+        final var column = basis[row];
+        if (column < 0) {
+            return null;
+        }
+        return column < variables.size() ? variables.get(column) : VariableKind.ARTIFICIAL;
+    }
+
     @Override
     public String toString() {
-        return "Table: {lHS = " + lHS + ", rHS = " + rHS + ", pivot = " + pivot + "}";
+        return "Table: {lHS = " + lHS() + ", rHS = " + rHS() + ", pivot = " + pivot + "}";
     }
 }
@@ -0,0 +1,88 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+
+import java.util.Arrays;
+
+// non-zero entries of a row sorted by their column
+final class SparseRow<T extends CalculableImpl<T>> {
+    private static final int INITIAL_CAPACITY = 4;
+    private int[] columns;
+    private Object[] values;
+    private int size;
+
+    SparseRow() {
+        this(INITIAL_CAPACITY);
+    }
+
+    SparseRow(final int capacity) {
+        columns = new int[Math.max(capacity, 1)];
+        values = new Object[columns.length];
+    }
+
+    private SparseRow(final SparseRow<T> row) {
+        columns = Arrays.copyOf(row.columns, Math.max(row.size, 1));
+        values = Arrays.copyOf(row.values, columns.length);
+        size = row.size;
+    }
+
+    SparseRow<T> copy() {
+        return new SparseRow<>(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int column(final int index) {
+        return columns[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    T value(final int index) {
+        return (T) values[index];
+    }
+
+    T get(final int column, final T zero) {
+        final var index = Arrays.binarySearch(columns, 0, size, column);
+        return index < 0 ? zero : value(index);
+    }
+
+    // zeros are removed instead of stored
+    void set(final int column, final T value) {
+        final var index = Arrays.binarySearch(columns, 0, size, column);
+        if (index >= 0 && value.isZero()) {
+            System.arraycopy(columns, index + 1, columns, index, size - index - 1);
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            values[--size] = null;
+        } else if (index >= 0) {
+            values[index] = value;
+        } else if (!value.isZero()) {
+            final var insertion = -index - 1;
+            grow();
+            System.arraycopy(columns, insertion, columns, insertion + 1, size - insertion);
+            System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+            columns[insertion] = column;
+            values[insertion] = value;
+            ++size;
+        }
+    }
+
+    // columns have to be appended in ascending order
+    void append(final int column, final T value) {
+        if (value.isZero()) {
+            return;
+        }
+        grow();
+        columns[size] = column;
+        values[size] = value;
+        ++size;
+    }
+
+    private void grow() {
+        if (size == columns.length) {
+            columns = Arrays.copyOf(columns, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+    }
+}
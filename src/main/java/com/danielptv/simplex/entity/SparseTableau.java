@@ -0,0 +1,161 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+// stores the non-zero entries of every row only, row operations take time proportional to the non-zero entries,
+// copies share their rows until one of them writes a row
+@SuppressFBWarnings("EI_EXPOSE_REP")
+public final class SparseTableau<T extends CalculableImpl<T>> implements Tableau<T> {
+    @Getter
+    private final int rows;
+    @Getter
+    private final int columns;
+    @Getter
+    private final T generator;
+    private final List<SparseRow<T>> entries;
+    private final boolean[] owned;
+
+    public SparseTableau(final int rows, final int columns, final T generator) {
+        this(rows, columns, generator, new ArrayList<>(Collections.nCopies(rows, null)));
+        for (int row = 0; row < rows; ++row) {
+            entries.set(row, new SparseRow<>());
+            owned[row] = true;
+        }
+    }
+
+    private SparseTableau(final int rows, final int columns, final T generator, final List<SparseRow<T>> entries) {
+        this.rows = rows;
+        this.columns = columns;
+        this.generator = generator;
+        this.entries = entries;
+        owned = new boolean[rows];
+    }
+
+    @Override
+    public Tableau<T> copy() {
+        Arrays.fill(owned, false);
+        return new SparseTableau<>(rows, columns, generator, new ArrayList<>(entries));
+    }
+
+    @Override
+    public <U extends CalculableImpl<U>> Tableau<U> create(final int rowCount, final int columnCount, final U number) {
+        return new SparseTableau<>(rowCount, columnCount, number);
+    }
+
+    @Override
+    public T get(final int row, final int column) {
+        return entries.get(row).get(column, generator.zero());
+    }
+
+    @Override
+    public void set(final int row, final int column, final T value) {
+        if (!owned[row]) {
+            entries.set(row, entries.get(row).copy());
+            owned[row] = true;
+        }
+        entries.get(row).set(column, value);
+    }
+
+    @Override
+    public void divideRow(final int row, final T divisor) {
+        if (divisor.isInfinite()) {
+            // zeros do not stay zero when divided by infinity
+            for (int column = 0; column <= columns; ++column) {
+                set(row, column, get(row, column).divide(divisor));
+            }
+            return;
+        }
+        final var source = entries.get(row);
+        final var result = new SparseRow<T>(source.size());
+        for (int i = 0; i < source.size(); ++i) {
+            result.append(source.column(i), source.value(i).divide(divisor));
+        }
+        replace(row, result);
+    }
+
+    @Override
+    public void subtractRow(final int target, final int source) {
+        merge(target, source, CalculableImpl::subtract);
+    }
+
+    @Override
+    public void axpyRow(final int target, final T factor, final int source) {
+        merge(target, source, (targetEntry, sourceEntry) -> targetEntry.fma(factor, sourceEntry));
+    }
+
+    // zero entries are not stored, so the minimum is the smallest stored entry or zero if any column is missing
+    @Override
+    public int getMinIndex(final int row) {
+        final var entry = entries.get(row);
+        final var stored = lhsSize(entry);
+        final var zero = generator.zero();
+        var min = stored < columns ? zero : entry.value(0);
+        for (int i = 0; i < stored; ++i) {
+            if (entry.value(i).compareTo(min) < 0) {
+                min = entry.value(i);
+            }
+        }
+
+        final var missing = firstMissing(entry, stored);
+        final var first = missing < columns && zero.equals(min) ? missing : columns;
+        for (int i = 0; i < stored && entry.column(i) < first; ++i) {
+            if (entry.value(i).equals(min)) {
+                return entry.column(i);
+            }
+        }
+        return first;
+    }
+
+    public int getNonZeros() {
+        return entries.stream().mapToInt(SparseRow::size).sum();
+    }
+
+    // number of stored entries left of the right-hand side
+    private int lhsSize(final SparseRow<T> entry) {
+        final var size = entry.size();
+        return size > 0 && entry.column(size - 1) == columns ? size - 1 : size;
+    }
+
+    // the first missing column is the first one that differs from its position
+    private static int firstMissing(final SparseRow<?> entry, final int stored) {
+        var missing = 0;
+        while (missing < stored && entry.column(missing) == missing) {
+            ++missing;
+        }
+        return missing;
+    }
+
+    // applies the operation to every column with a non-zero source entry, other target entries are kept
+    private void merge(final int target, final int source, final BinaryOperator<T> operation) {
+        final var targetRow = entries.get(target);
+        final var sourceRow = entries.get(source);
+        final var result = new SparseRow<T>(targetRow.size() + sourceRow.size());
+        var i = 0;
+        var j = 0;
+        while (i < targetRow.size() || j < sourceRow.size()) {
+            final var targetColumn = i < targetRow.size() ? targetRow.column(i) : Integer.MAX_VALUE;
+            final var sourceColumn = j < sourceRow.size() ? sourceRow.column(j) : Integer.MAX_VALUE;
+            if (targetColumn < sourceColumn) {
+                result.append(targetColumn, targetRow.value(i++));
+            } else if (targetColumn > sourceColumn) {
+                result.append(sourceColumn, operation.apply(generator.zero(), sourceRow.value(j++)));
+            } else {
+                result.append(targetColumn, operation.apply(targetRow.value(i++), sourceRow.value(j++)));
+            }
+        }
+        replace(target, result);
+    }
+
+    private void replace(final int row, final SparseRow<T> result) {
+        entries.set(row, result);
+        owned[row] = true;
+    }
+}
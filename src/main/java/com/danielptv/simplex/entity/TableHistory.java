@@ -0,0 +1,90 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+// tables of a phase, only checkpoints and the last table are kept, every other table is derived again from the
+// closest checkpoint before it by replaying the pivots the tables carry
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public final class TableHistory<T extends CalculableImpl<T>> extends AbstractList<SimplexTable<T>> {
+    private final UnaryOperator<SimplexTable<T>> transform;
+    private final int interval;
+    private final NavigableMap<Integer, SimplexTable<T>> checkpoints = new TreeMap<>();
+    private final List<String> titles = new ArrayList<>();
+    private SimplexTable<T> last;
+
+    // the last derived table, so iterating over the history replays every pivot only once
+    private int cachedIndex = -1;
+    private SimplexTable<T> cached;
+
+    public TableHistory(final UnaryOperator<SimplexTable<T>> transform, final int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.transform = transform;
+        this.interval = interval;
+    }
+
+    // the table has to be the transformation of the previous table
+    public void append(final SimplexTable<T> table) {
+        if (titles.size() % interval == 0) {
+            checkpoints.put(titles.size(), table);
+        }
+        titles.add(table.title());
+        last = table;
+    }
+
+    public void appendCheckpoint(final SimplexTable<T> table) {
+        checkpoints.put(titles.size(), table);
+        titles.add(table.title());
+        last = table;
+    }
+
+    // replaces the first table, the following tables have to derive from the last table of the head
+    public TableHistory<T> withHead(final List<SimplexTable<T>> head) {
+        final var result = new TableHistory<>(transform, interval);
+        head.forEach(result::appendCheckpoint);
+        final var shift = head.size() - 1;
+        checkpoints.tailMap(1, true).forEach((index, table) -> result.checkpoints.put(index + shift, table));
+        result.titles.addAll(titles.subList(1, titles.size()));
+        if (titles.size() > 1) {
+            result.last = last;
+        }
+        return result;
+    }
+
+    @Override
+    public SimplexTable<T> get(final int index) {
+        Objects.checkIndex(index, titles.size());
+        if (index == titles.size() - 1) {
+            return last;
+        }
+        final var checkpoint = checkpoints.floorEntry(index);
+        var position = checkpoint.getKey();
+        var table = checkpoint.getValue();
+        if (cached != null && cachedIndex > position && cachedIndex <= index) {
+            position = cachedIndex;
+            table = cached;
+        }
+        while (position < index) {
+            ++position;
+            table = new SimplexTable<>(transform.apply(table), titles.get(position));
+        }
+        cachedIndex = position;
+        cached = table;
+        return table;
+    }
+
+    @Override
+    public int size() {
+        return titles.size();
+    }
+}
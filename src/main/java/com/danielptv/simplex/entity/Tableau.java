@@ -0,0 +1,91 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+// entries of a table, the right-hand side is kept as an additional last column of every row,
+// only tableaus that have not been published with a table yet may be updated
+public interface Tableau<T extends CalculableImpl<T>> {
+    int getRows();
+    int getColumns();
+    T getGenerator();
+    T get(int row, int column);
+    void set(int row, int column, T value);
+    Tableau<T> copy();
+
+    // empty tableau with the same storage
+    <U extends CalculableImpl<U>> Tableau<U> create(int rows, int columns, U generator);
+    void divideRow(int row, T divisor);
+    void subtractRow(int target, int source);
+
+    // target += factor * source
+    void axpyRow(int target, T factor, int source);
+
+    static <T extends CalculableImpl<T>> Tableau<T> of(final List<Row<T>> lHS, final List<T> rHS) {
+        if (lHS.size() != rHS.size()) {
+            throw new IllegalArgumentException();
+        }
+        final var first = lHS.get(0);
+        final var tableau = new DenseTableau<>(lHS.size(), first.entries().size(), first.generator());
+        for (int row = 0; row < tableau.getRows(); ++row) {
+            final var entries = lHS.get(row).entries();
+            if (entries.size() != tableau.getColumns()) {
+                throw new IllegalArgumentException();
+            }
+            for (int column = 0; column < tableau.getColumns(); ++column) {
+                tableau.set(row, column, entries.get(column));
+            }
+            tableau.setRhs(row, rHS.get(row));
+        }
+        return tableau;
+    }
+
+    default T getRhs(final int row) {
+        return get(row, getColumns());
+    }
+
+    default void setRhs(final int row, final T value) {
+        set(row, getColumns(), value);
+    }
+
+    default int getMinIndex(final int row) {
+        var min = 0;
+        for (int column = 1; column < getColumns(); ++column) {
+            if (get(row, column).compareTo(get(row, min)) < 0) {
+                min = column;
+            }
+        }
+        return row(row).indexOf(get(row, min));
+    }
+
+    default void negateRow(final int row) {
+        for (int column = 0; column <= getColumns(); ++column) {
+            set(row, column, get(row, column).negate());
+        }
+    }
+
+    default boolean isPositive(final int row) {
+        return get(row, getMinIndex(row)).signum() >= 0;
+    }
+
+    default List<T> row(final int row) {
+        return new TableauView<>(this, row, -1, getColumns());
+    }
+
+    default List<T> column(final int column) {
+        return new TableauView<>(this, -1, column, getRows());
+    }
+
+    default List<T> rHS() {
+        return column(getColumns());
+    }
+
+    // copies the entries into rows, index based access should be preferred
+    default List<Row<T>> lHS() {
+        return IntStream.range(0, getRows())
+                .mapToObj(row -> new Row<>(row(row), getGenerator()))
+                .toList();
+    }
+}
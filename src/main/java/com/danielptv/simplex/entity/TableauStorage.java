@@ -0,0 +1,24 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+
+public enum TableauStorage {
+    DENSE,
+    SPARSE,
+    // floating point numbers as primitive doubles on the heap
+    PRIMITIVE,
+    // floating point numbers in direct buffers
+    OFF_HEAP,
+    // floating point numbers in a memory-mapped temporary file
+    MAPPED;
+
+    public <T extends CalculableImpl<T>> Tableau<T> create(final int rows, final int columns, final T generator) {
+        return switch (this) {
+            case DENSE -> new DenseTableau<>(rows, columns, generator);
+            case SPARSE -> new SparseTableau<>(rows, columns, generator);
+            case PRIMITIVE -> PrimitiveTableau.of(rows, columns, generator);
+            case OFF_HEAP -> OffHeapTableau.of(rows, columns, generator, false);
+            case MAPPED -> OffHeapTableau.of(rows, columns, generator, true);
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.AbstractList;
+
+// read-only view of a row or, if the row is negative, of a column
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+final class TableauView<T extends CalculableImpl<T>> extends AbstractList<T> {
+    private final Tableau<T> tableau;
+    private final int row;
+    private final int column;
+    private final int size;
+
+    TableauView(final Tableau<T> tableau, final int row, final int column, final int size) {
+        this.tableau = tableau;
+        this.row = row;
+        this.column = column;
+        this.size = size;
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return row < 0 ? tableau.get(index, column) : tableau.get(row, index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
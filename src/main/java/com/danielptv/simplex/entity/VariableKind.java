@@ -0,0 +1,7 @@
+package com.danielptv.simplex.entity;
+
+public enum VariableKind {
+    STRUCTURAL,
+    SLACK,
+    ARTIFICIAL
+}
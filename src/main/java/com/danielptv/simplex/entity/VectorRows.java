@@ -0,0 +1,49 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.FloatingPoint.Tolerance;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// only loaded if the vector module is present, lanewise division and fused multiply-add round like their scalar
+// counterparts
+final class VectorRows {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorRows() {
+    }
+
+    static void divide(final double[] row, final double divisor, final Tolerance tolerance) {
+        final var bound = SPECIES.loopBound(row.length);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            snap(DoubleVector.fromArray(SPECIES, row, i).div(divisor), tolerance).intoArray(row, i);
+        }
+        PrimitiveRows.divide(row, bound, divisor, tolerance);
+    }
+
+    static void subtract(final double[] target, final double[] source, final Tolerance tolerance) {
+        final var bound = SPECIES.loopBound(target.length);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final var difference = DoubleVector.fromArray(SPECIES, target, i)
+                    .sub(DoubleVector.fromArray(SPECIES, source, i));
+            snap(difference, tolerance).intoArray(target, i);
+        }
+        PrimitiveRows.subtract(target, source, bound, tolerance);
+    }
+
+    static void axpy(final double[] target, final double factor, final double[] source, final Tolerance tolerance) {
+        final var bound = SPECIES.loopBound(target.length);
+        final var factors = DoubleVector.broadcast(SPECIES, factor);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            final var sourceValues = DoubleVector.fromArray(SPECIES, source, i);
+            final var targetValues = DoubleVector.fromArray(SPECIES, target, i);
+            final var result = snap(factors.fma(sourceValues, targetValues), tolerance);
+            targetValues.blend(result, sourceValues.compare(VectorOperators.NE, 0)).intoArray(target, i);
+        }
+        PrimitiveRows.axpy(target, factor, source, bound, tolerance);
+    }
+
+    private static DoubleVector snap(final DoubleVector values, final Tolerance tolerance) {
+        return values.blend(0, values.abs().compare(VectorOperators.LE, tolerance.absolute()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.danielptv.simplex.number;
+
+public interface Accumulator<T extends CalculableImpl<T>> {
+    void set(T value);
+    void addProduct(T a, T b);
+    T snapshot();
+}
@@ -6,8 +6,31 @@ public interface CalculableImpl<T extends CalculableImpl<T>> extends Comparable<
     T multiply(T c);
     T divide(T c);
     T add(T c);
+    T negate();
     T create(String s);
+    T fromLong(long l);
+    T fromRational(long numerator, long denominator);
+    T zero();
+    T one();
+    T minusOne();
+    int signum();
     BigDecimal toDecimal();
     T toInfinity(InfinityType infinityType);
     boolean isInfinite();
+
+    default T fma(final T a, final T b) {
+        return add(a.multiply(b));
+    }
+
+    default Accumulator<T> accumulator() {
+        return new ValueAccumulator<>();
+    }
+
+    default T subtract(final T c) {
+        return add(c.negate());
+    }
+
+    default boolean isZero() {
+        return !isInfinite() && signum() == 0;
+    }
 }
@@ -0,0 +1,277 @@
+package com.danielptv.simplex.number;
+
+import com.danielptv.simplex.number.FloatingPoint.Tolerance;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// unevaluated sum hi + lo of two doubles with |lo| <= ulp(hi) / 2, about 32 significant digits
+public class DoubleDouble implements CalculableImpl<DoubleDouble> {
+    @SuppressWarnings("MagicNumber")
+    public static final Tolerance DEFAULT_TOLERANCE = new Tolerance(1e-24, 1e-28);
+    private static final int DISPLAY_DIGITS = 30;
+    private static final MathContext PARSE_CONTEXT = new MathContext(40, RoundingMode.HALF_EVEN);
+    private static final Map<Tolerance, Constants> CONSTANTS = new ConcurrentHashMap<>();
+    @Getter
+    private final double hi;
+    @Getter
+    private final double lo;
+    @Getter
+    private final InfinityType infinityType;
+    @Getter
+    private final Tolerance tolerance;
+
+    public DoubleDouble() {
+        this(DEFAULT_TOLERANCE);
+    }
+
+    public DoubleDouble(final Tolerance tolerance) {
+        this(0, 0, null, tolerance);
+    }
+
+    public DoubleDouble(final String s, final Tolerance tolerance) {
+        this(of(parse(s), tolerance));
+    }
+
+    private DoubleDouble(final DoubleDouble d) {
+        this(d.hi, d.lo, d.infinityType, d.tolerance);
+    }
+
+    private DoubleDouble(final double hi, final double lo, final InfinityType infinityType, final Tolerance tolerance) {
+        this.hi = hi;
+        this.lo = lo;
+        this.infinityType = infinityType;
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public DoubleDouble multiply(final DoubleDouble d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return toInfinity(InfinityType.calculate(infinityType, d.infinityType));
+        }
+        // the rounding error of hi * hi is exact with a fused multiply-add
+        final var product = hi * d.hi;
+        final var error = Math.fma(hi, d.hi, -product) + (hi * d.lo + lo * d.hi);
+        return normalized(product, error);
+    }
+
+    private DoubleDouble multiply(final double d) {
+        final var product = hi * d;
+        return normalized(product, Math.fma(hi, d, -product) + lo * d);
+    }
+
+    @Override
+    public DoubleDouble divide(final DoubleDouble d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return toInfinity(InfinityType.calculate(infinityType, d.infinityType));
+        }
+        if (d.hi == 0) {
+            throw new ArithmeticException();
+        }
+        // long division, every quotient digit adds about 53 bits
+        final var q1 = hi / d.hi;
+        var remainder = subtract(d.multiply(q1));
+        final var q2 = remainder.hi / d.hi;
+        remainder = remainder.subtract(d.multiply(q2));
+        final var q3 = remainder.hi / d.hi;
+        final var sum = q1 + q2;
+        return normalized(sum, q2 - (sum - q1) + q3);
+    }
+
+    @Override
+    public DoubleDouble add(final DoubleDouble d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return toInfinity(InfinityType.calculate(infinityType, d.infinityType));
+        }
+        return sum(hi, lo, d.hi, d.lo);
+    }
+
+    @Override
+    public DoubleDouble subtract(final DoubleDouble d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return add(d.negate());
+        }
+        return sum(hi, lo, -d.hi, -d.lo);
+    }
+
+    @Override
+    public DoubleDouble negate() {
+        if (this.isInfinite()) {
+            return toInfinity(InfinityType.negate(infinityType));
+        }
+        return new DoubleDouble(-hi, -lo, null, tolerance);
+    }
+
+    @Override
+    public DoubleDouble create(final String s) {
+        return new DoubleDouble(s, tolerance);
+    }
+
+    @Override
+    public DoubleDouble fromLong(final long l) {
+        final var high = (double) l;
+        return normalized(high, BigDecimal.valueOf(l).subtract(new BigDecimal(high)).doubleValue());
+    }
+
+    @Override
+    public DoubleDouble fromRational(final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException();
+        }
+        return fromLong(numerator).divide(fromLong(denominator));
+    }
+
+    @Override
+    public DoubleDouble zero() {
+        return constants().zero();
+    }
+
+    @Override
+    public DoubleDouble one() {
+        return constants().one();
+    }
+
+    @Override
+    public DoubleDouble minusOne() {
+        return constants().minusOne();
+    }
+
+    @Override
+    public int signum() {
+        if (this.isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? 1 : -1;
+        }
+        return (int) Math.signum(hi);
+    }
+
+    @Override
+    public BigDecimal toDecimal() {
+        return toBigDecimal().setScale(2, RoundingMode.HALF_EVEN).stripTrailingZeros();
+    }
+
+    @Override
+    public DoubleDouble toInfinity(final InfinityType type) {
+        return new DoubleDouble(0, 0, type, tolerance);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return infinityType != null;
+    }
+
+    @Override
+    public int compareTo(@NonNull final DoubleDouble d) {
+        if (infinityType != null || d.infinityType != null) {
+            return InfinityType.compare(infinityType, d.infinityType);
+        }
+        final var difference = subtract(d).hi;
+        if (tolerance.isNegligible(difference, Math.max(Math.abs(hi), Math.abs(d.hi)))) {
+            return 0;
+        }
+        return difference < 0 ? -1 : 1;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DoubleDouble d)) {
+            return false;
+        }
+        return compareTo(d) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        // tolerant equality is not transitive, so only the infinity type can take part in the hash
+        return Objects.hashCode(infinityType);
+    }
+
+    @Override
+    public String toString() {
+        if (infinityType != null) {
+            return infinityType.toString();
+        }
+        if (hi == 0) {
+            return "0";
+        }
+        return toBigDecimal()
+                .round(new MathContext(DISPLAY_DIGITS, RoundingMode.HALF_EVEN))
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+
+    public double doubleValue() {
+        if (isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return hi;
+    }
+
+    private BigDecimal toBigDecimal() {
+        return new BigDecimal(hi).add(new BigDecimal(lo));
+    }
+
+    private Constants constants() {
+        return CONSTANTS.computeIfAbsent(tolerance, Constants::of);
+    }
+
+    // adds two double-double numbers, both the high and the low parts are summed without rounding errors
+    private DoubleDouble sum(final double aHi, final double aLo, final double bHi, final double bLo) {
+        final var high = aHi + bHi;
+        final var highVirtual = high - aHi;
+        final var highError = aHi - (high - highVirtual) + (bHi - highVirtual);
+        final var low = aLo + bLo;
+        final var lowVirtual = low - aLo;
+        final var lowError = aLo - (low - lowVirtual) + (bLo - lowVirtual);
+        final var partial = high + (highError + low);
+        final var partialError = highError + low - (partial - high);
+        return normalized(partial, partialError + lowError);
+    }
+
+    private DoubleDouble normalized(final double high, final double low) {
+        final var sum = high + low;
+        if (Double.isNaN(sum) || Double.isInfinite(sum)) {
+            throw new ArithmeticException();
+        }
+        if (Math.abs(sum) <= tolerance.absolute()) {
+            return zero();
+        }
+        return new DoubleDouble(sum, low - (sum - high), null, tolerance);
+    }
+
+    private static BigDecimal parse(final String s) {
+        if (s.contains("/")) {
+            final var split = s.split("/");
+            if (split.length != 2 || new BigDecimal(split[1]).signum() == 0) {
+                throw new IllegalArgumentException();
+            }
+            return new BigDecimal(split[0]).divide(new BigDecimal(split[1]), PARSE_CONTEXT);
+        }
+        return new BigDecimal(s);
+    }
+
+    private static DoubleDouble of(final BigDecimal value, final Tolerance tolerance) {
+        final var high = value.doubleValue();
+        final var low = value.subtract(new BigDecimal(high)).doubleValue();
+        return new DoubleDouble(tolerance).normalized(high, low);
+    }
+
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    record Constants(DoubleDouble zero, DoubleDouble one, DoubleDouble minusOne) {
+        static Constants of(final Tolerance tolerance) {
+            return new Constants(
+                    new DoubleDouble(0, 0, null, tolerance),
+                    new DoubleDouble(1, 0, null, tolerance),
+                    new DoubleDouble(-1, 0, null, tolerance)
+            );
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.danielptv.simplex.number;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FloatingPoint implements CalculableImpl<FloatingPoint> {
+    private static final int DISPLAY_DIGITS = 10;
+    private static final Map<Tolerance, Constants> CONSTANTS = new ConcurrentHashMap<>();
+    @Getter
+    private final double value;
+    @Getter
+    private final InfinityType infinityType;
+    @Getter
+    private final Tolerance tolerance;
+
+    public FloatingPoint() {
+        this(Tolerance.DEFAULT);
+    }
+
+    public FloatingPoint(final Tolerance tolerance) {
+        value = 0;
+        this.tolerance = tolerance;
+        infinityType = null;
+    }
+
+    public FloatingPoint(final String s, final Tolerance tolerance) {
+        infinityType = null;
+        this.tolerance = tolerance;
+        if (s.contains("/")) {
+            final var split = s.split("/");
+            if (split.length != 2 || Double.parseDouble(split[1]) == 0) {
+                throw new IllegalArgumentException();
+            }
+            value = snap(Double.parseDouble(split[0]) / Double.parseDouble(split[1]), tolerance);
+            return;
+        }
+        value = snap(Double.parseDouble(s), tolerance);
+    }
+
+    public FloatingPoint(final double value, final Tolerance tolerance) {
+        this.value = snap(value, tolerance);
+        this.tolerance = tolerance;
+        infinityType = null;
+    }
+
+    private FloatingPoint(final InfinityType infinityType, final Tolerance tolerance) {
+        value = 0;
+        this.tolerance = tolerance;
+        this.infinityType = infinityType;
+    }
+
+    @Override
+    public FloatingPoint multiply(final FloatingPoint f) {
+        if (this.isInfinite() || f.isInfinite()) {
+            return new FloatingPoint(InfinityType.calculate(infinityType, f.infinityType), tolerance);
+        }
+        return new FloatingPoint(value * f.value, tolerance);
+    }
+
+    @Override
+    public FloatingPoint divide(final FloatingPoint f) {
+        if (this.isInfinite() || f.isInfinite()) {
+            return new FloatingPoint(InfinityType.calculate(infinityType, f.infinityType), tolerance);
+        }
+        if (f.value == 0) {
+            throw new ArithmeticException();
+        }
+        return new FloatingPoint(value / f.value, tolerance);
+    }
+
+    @Override
+    public FloatingPoint add(final FloatingPoint f) {
+        if (this.isInfinite() || f.isInfinite()) {
+            return new FloatingPoint(InfinityType.calculate(infinityType, f.infinityType), tolerance);
+        }
+        return new FloatingPoint(value + f.value, tolerance);
+    }
+
+    @Override
+    public FloatingPoint fma(final FloatingPoint a, final FloatingPoint b) {
+        if (this.isInfinite() || a.isInfinite() || b.isInfinite()) {
+            return add(a.multiply(b));
+        }
+        return new FloatingPoint(Math.fma(a.value, b.value, value), tolerance);
+    }
+
+    @Override
+    public FloatingPoint negate() {
+        if (this.isInfinite()) {
+            return new FloatingPoint(InfinityType.negate(infinityType), tolerance);
+        }
+        return new FloatingPoint(-value, tolerance);
+    }
+
+    @Override
+    public FloatingPoint subtract(final FloatingPoint f) {
+        if (this.isInfinite() || f.isInfinite()) {
+            return add(f.negate());
+        }
+        return new FloatingPoint(value - f.value, tolerance);
+    }
+
+    @Override
+    public FloatingPoint create(final String s) {
+        return new FloatingPoint(s, tolerance);
+    }
+
+    @Override
+    public FloatingPoint fromLong(final long l) {
+        return new FloatingPoint(l, tolerance);
+    }
+
+    @Override
+    public FloatingPoint fromRational(final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException();
+        }
+        return new FloatingPoint((double) numerator / denominator, tolerance);
+    }
+
+    @Override
+    public FloatingPoint zero() {
+        return constants().zero();
+    }
+
+    @Override
+    public FloatingPoint one() {
+        return constants().one();
+    }
+
+    @Override
+    public FloatingPoint minusOne() {
+        return constants().minusOne();
+    }
+
+    @Override
+    public int signum() {
+        if (this.isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? 1 : -1;
+        }
+        return (int) Math.signum(value);
+    }
+
+    @Override
+    public BigDecimal toDecimal() {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN).stripTrailingZeros();
+    }
+
+    @Override
+    public FloatingPoint toInfinity(final InfinityType type) {
+        return new FloatingPoint(type, tolerance);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return infinityType != null;
+    }
+
+    @Override
+    public int compareTo(@NonNull final FloatingPoint f) {
+        if (infinityType != null || f.infinityType != null) {
+            return InfinityType.compare(infinityType, f.infinityType);
+        }
+        return tolerance.compare(value, f.value);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FloatingPoint f)) {
+            return false;
+        }
+        return compareTo(f) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        // tolerant equality is not transitive, so only the infinity type can take part in the hash
+        return Objects.hashCode(infinityType);
+    }
+
+    @Override
+    public String toString() {
+        if (infinityType != null) {
+            return infinityType.toString();
+        }
+        if (value == 0) {
+            return "0";
+        }
+        return BigDecimal.valueOf(value)
+                .round(new MathContext(DISPLAY_DIGITS, RoundingMode.HALF_EVEN))
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+
+    private Constants constants() {
+        return CONSTANTS.computeIfAbsent(tolerance, Constants::of);
+    }
+
+    private static double snap(final double value, final Tolerance tolerance) {
+        return tolerance.snap(value);
+    }
+
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    public record Tolerance(double absolute, double relative) {
+        @SuppressWarnings("MagicNumber")
+        public static final Tolerance DEFAULT = new Tolerance(1e-9, 1e-12);
+
+        public int compare(final double a, final double b) {
+            final var difference = a - b;
+            if (isNegligible(difference, Math.max(Math.abs(a), Math.abs(b)))) {
+                return 0;
+            }
+            return difference < 0 ? -1 : 1;
+        }
+
+        public double snap(final double d) {
+            return Math.abs(d) <= absolute ? 0 : d;
+        }
+
+        boolean isNegligible(final double difference, final double magnitude) {
+            final var abs = Math.abs(difference);
+            return abs <= absolute || abs <= relative * magnitude;
+        }
+    }
+
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    record Constants(FloatingPoint zero, FloatingPoint one, FloatingPoint minusOne) {
+        static Constants of(final Tolerance tolerance) {
+            return new Constants(
+                    new FloatingPoint(tolerance),
+                    new FloatingPoint(1, tolerance),
+                    new FloatingPoint(-1, tolerance)
+            );
+        }
+    }
+}
@@ -1,74 +1,86 @@
 package com.danielptv.simplex.number;
 
-import lombok.EqualsAndHashCode;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.Getter;
 import lombok.NonNull;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+@SuppressFBWarnings("EI_EXPOSE_REP")
 public class Fraction implements CalculableImpl<Fraction> {
-    @EqualsAndHashCode.Include
-    @Getter
-    private final BigInteger numerator;
-    @EqualsAndHashCode.Include
-    @Getter
-    private final BigInteger denominator;
-    @EqualsAndHashCode.Include
+    static final int REDUCE_BITS = 32;
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    // canonical instances of reduced fractions with |num| <= CACHE_RANGE and denom <= CACHE_RANGE, filled on demand
+    private static final int CACHE_RANGE = 64;
+    private static final int CACHE_ROW = 2 * CACHE_RANGE + 1;
+    private static final AtomicReferenceArray<Fraction> CACHE = new AtomicReferenceArray<>(CACHE_ROW * CACHE_RANGE);
+    private static final Fraction ZERO = intern(0, 1, true);
+    private static final Fraction ONE = intern(1, 1, true);
+    private static final Fraction MINUS_ONE = intern(-1, 1, true);
+    // numerator and denominator are kept as longs while they fit, big values are only set on overflow
+    private final long num;
+    private final long denom;
+    private final BigInteger bigNum;
+    private final BigInteger bigDenom;
     @Getter
     private final InfinityType infinityType;
+    // arithmetic results are only reduced once they are printed, compared for equality or grow too large
+    private final boolean reduced;
+    private Fraction normalized;
 
     public Fraction() {
-        numerator = new BigInteger("0");
-        denominator = new BigInteger("1");
-        infinityType = null;
+        this(0, 1, null, null, null, true);
     }
 
-    @SuppressWarnings({"ReturnCount", "MagicNumber"})
     public Fraction(final String fraction) {
-        infinityType = null;
-        if (fraction.contains("/")) {
-            final var split = fraction.split("/");
-            if (split.length != 2 || new BigInteger("0").equals(new BigInteger(split[1]))) {
-                throw new IllegalArgumentException();
-            }
-            final var simplified = simplify(new BigInteger(split[0]), new BigInteger(split[1]));
-            numerator = simplified.value0();
-            denominator = simplified.value1();
-            return;
-        }
-        if (fraction.contains(".")) {
-            final var split = fraction.split("\\.");
-            if (split.length != 2) {
-                throw new IllegalArgumentException();
-            }
-            final var num = new BigInteger(fraction.replace(".", ""));
-            final var denom = BigDecimal.valueOf(Math.pow(10, split[1].length())).toBigInteger();
-            final var simplified = simplify(num, denom);
-            numerator = simplified.value0();
-            denominator = simplified.value1();
-            return;
-        }
-        numerator = new BigInteger(fraction);
-        denominator = new BigInteger("1");
+        this(parse(fraction));
     }
 
     public Fraction(final BigInteger num, final BigInteger denom) {
-        if (denom.equals(new BigInteger("0"))) {
-            throw new ArithmeticException();
-        }
-        final var simplified = simplify(num, denom);
-        numerator = simplified.value0();
-        denominator = simplified.value1();
-        infinityType = null;
+        this(of(num, denom));
     }
 
     private Fraction(final InfinityType infinityType) {
-        numerator = null;
-        denominator = null;
+        this(0, 0, null, null, infinityType, true);
+    }
+
+    private Fraction(final Fraction f) {
+        this(f.num, f.denom, f.bigNum, f.bigDenom, f.infinityType, f.reduced);
+    }
+
+    private Fraction(
+            final long num,
+            final long denom,
+            final BigInteger bigNum,
+            final BigInteger bigDenom,
+            final InfinityType infinityType,
+            final boolean reduced
+    ) {
+        this.num = num;
+        this.denom = denom;
+        this.bigNum = bigNum;
+        this.bigDenom = bigDenom;
         this.infinityType = infinityType;
+        this.reduced = reduced;
+    }
+
+    public BigInteger getNumerator() {
+        if (isInfinite()) {
+            return null;
+        }
+        return normalize().rawNumerator();
+    }
+
+    public BigInteger getDenominator() {
+        if (isInfinite()) {
+            return null;
+        }
+        return normalize().rawDenominator();
     }
 
     @Override
@@ -76,7 +88,14 @@ public class Fraction implements CalculableImpl<Fraction> {
         if (this.isInfinite() || f.isInfinite()) {
             return new Fraction(InfinityType.calculate(this.infinityType, f.infinityType));
         }
-        return new Fraction(numerator.multiply(f.numerator), denominator.multiply(f.denominator));
+        if (isSmall() && f.isSmall()) {
+            try {
+                return ofLazy(Math.multiplyExact(num, f.num), Math.multiplyExact(denom, f.denom));
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        return of(rawNumerator().multiply(f.rawNumerator()), rawDenominator().multiply(f.rawDenominator()));
     }
 
     @Override
@@ -84,28 +103,132 @@ public class Fraction implements CalculableImpl<Fraction> {
         if (this.isInfinite() || f.isInfinite()) {
             return new Fraction(InfinityType.calculate(this.infinityType, f.infinityType));
         }
-        return new Fraction(numerator.multiply(f.denominator), denominator.multiply(f.numerator));
+        return multiply(f.reciprocal());
     }
 
     @Override
+    @SuppressWarnings("ReturnCount")
     public Fraction add(final Fraction f) {
         if (this.isInfinite() || f.isInfinite()) {
             return new Fraction(InfinityType.calculate(this.infinityType, f.infinityType));
         }
-        final var num = (numerator.multiply(f.denominator)).add(f.numerator.multiply(denominator));
-        return new Fraction(num, denominator.multiply(f.denominator));
+        if (isSmall() && f.isSmall()) {
+            try {
+                if (denom == f.denom) {
+                    return ofLazy(Math.addExact(num, f.num), denom);
+                }
+                final var sum = Math.addExact(Math.multiplyExact(num, f.denom), Math.multiplyExact(f.num, denom));
+                return ofLazy(sum, Math.multiplyExact(denom, f.denom));
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        final var numerator = rawNumerator().multiply(f.rawDenominator())
+                .add(f.rawNumerator().multiply(rawDenominator()));
+        return of(numerator, rawDenominator().multiply(f.rawDenominator()));
+    }
+
+    @Override
+    @SuppressWarnings("ReturnCount")
+    public Fraction fma(final Fraction a, final Fraction b) {
+        if (this.isInfinite() || a.isInfinite() || b.isInfinite()) {
+            return add(a.multiply(b));
+        }
+        if (isSmall() && a.isSmall() && b.isSmall()) {
+            try {
+                // this + a * b over the common denominator, reduced at most once
+                final var productNum = Math.multiplyExact(a.num, b.num);
+                final var productDenom = Math.multiplyExact(a.denom, b.denom);
+                if (denom == productDenom) {
+                    return ofLazy(Math.addExact(num, productNum), denom);
+                }
+                final var sum = Math.addExact(
+                        Math.multiplyExact(num, productDenom),
+                        Math.multiplyExact(productNum, denom)
+                );
+                return ofLazy(sum, Math.multiplyExact(denom, productDenom));
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        final var productNum = a.rawNumerator().multiply(b.rawNumerator());
+        final var productDenom = a.rawDenominator().multiply(b.rawDenominator());
+        final var numerator = rawNumerator().multiply(productDenom).add(productNum.multiply(rawDenominator()));
+        return of(numerator, rawDenominator().multiply(productDenom));
+    }
+
+    @Override
+    public Fraction negate() {
+        if (isInfinite()) {
+            return new Fraction(InfinityType.negate(infinityType));
+        }
+        if (isSmall()) {
+            return intern(-num, denom, reduced);
+        }
+        return of(bigNum.negate(), bigDenom);
+    }
+
+    @Override
+    public Accumulator<Fraction> accumulator() {
+        return new MutableFraction();
     }
 
     @Override
     public Fraction create(final String s) {
-        return new Fraction(s);
+        return parse(s);
+    }
+
+    @Override
+    public Fraction fromLong(final long l) {
+        if (l == Long.MIN_VALUE) {
+            return of(LONG_MIN, BigInteger.ONE);
+        }
+        return intern(l, 1, true);
+    }
+
+    @Override
+    public Fraction fromRational(final long numerator, final long denominator) {
+        return of(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    @Override
+    public Fraction zero() {
+        return ZERO;
+    }
+
+    @Override
+    public Fraction one() {
+        return ONE;
+    }
+
+    @Override
+    public Fraction minusOne() {
+        return MINUS_ONE;
+    }
+
+    @Override
+    public int signum() {
+        if (isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? 1 : -1;
+        }
+        return isSmall() ? Long.signum(num) : bigNum.signum();
+    }
+
+    public double doubleValue() {
+        if (isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        if (isSmall()) {
+            return (double) num / denom;
+        }
+        return new BigDecimal(bigNum).divide(new BigDecimal(bigDenom), MathContext.DECIMAL64).doubleValue();
     }
 
     @Override
     public BigDecimal toDecimal() {
-        final var num = new BigDecimal(numerator);
-        final var denom = new BigDecimal(denominator);
-        return num.divide(denom, 2, RoundingMode.HALF_EVEN).stripTrailingZeros();
+        final var numerator = new BigDecimal(rawNumerator());
+        final var denominator = new BigDecimal(rawDenominator());
+        return numerator.divide(denominator, 2, RoundingMode.HALF_EVEN).stripTrailingZeros();
     }
 
     @Override
@@ -119,84 +242,205 @@ public class Fraction implements CalculableImpl<Fraction> {
     }
 
     @Override
-    @SuppressWarnings("MagicNumber")
+    public boolean isZero() {
+        // zeros from arithmetic and the factory methods are all the shared instance
+        return this == ZERO || isSmall() && num == 0 && infinityType == null;
+    }
+
+    @Override
+    @SuppressWarnings("ReturnCount")
     public int compareTo(@NonNull final Fraction f) {
         if (infinityType != null || f.infinityType != null) {
             return InfinityType.compare(infinityType, f.infinityType);
         }
-        final var currV = new BigDecimal(numerator).divide(new BigDecimal(denominator), 20, RoundingMode.HALF_EVEN);
-        final var newV = new BigDecimal(f.numerator).divide(new BigDecimal(f.denominator), 20, RoundingMode.HALF_EVEN);
-        return currV.compareTo(newV);
+        final var sign = signum();
+        final var otherSign = f.signum();
+        if (sign != otherSign || sign == 0) {
+            return Integer.compare(sign, otherSign);
+        }
+        // denominators are positive, so comparing the cross products is sufficient
+        if (isSmall() && f.isSmall()) {
+            return compareProducts(num, f.denom, f.num, denom);
+        }
+        return rawNumerator().multiply(f.rawDenominator()).compareTo(f.rawNumerator().multiply(rawDenominator()));
     }
 
     @Override
-    @SuppressWarnings("ReturnCount")
-    public String toString() {
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Fraction f)) {
+            return false;
+        }
+        final var current = normalize();
+        final var other = f.normalize();
+        return current.num == other.num &&
+                current.denom == other.denom &&
+                Objects.equals(current.bigNum, other.bigNum) &&
+                Objects.equals(current.bigDenom, other.bigDenom) &&
+                infinityType == f.infinityType;
+    }
 
+    @Override
+    public int hashCode() {
+        final var current = normalize();
+        return Objects.hash(current.num, current.denom, current.bigNum, current.bigDenom, infinityType);
+    }
+
+    @Override
+    public String toString() {
         if (infinityType != null) {
             return infinityType.toString();
         }
-        if (numerator.intValue() == 0) {
-            return numerator.toString();
+        final var current = normalize();
+        if (current.isSmall()) {
+            return current.denom == 1 ? Long.toString(current.num) : current.num + "/" + current.denom;
         }
+        return BigInteger.ONE.equals(current.bigDenom)
+                ? current.bigNum.toString()
+                : current.bigNum + "/" + current.bigDenom;
+    }
 
-        if ((numerator.doubleValue() / denominator.doubleValue()) < 0) {
-            if (denominator.abs().intValue() == 1) {
-                return (numerator.abs()).negate().toString();
-            }
-            return (numerator.abs()).negate() + "/" + denominator.abs();
-        }
-        if (denominator.abs().intValue() == 1) {
-            return numerator.abs().toString();
-        }
-        return numerator.abs() + "/" + denominator.abs();
+    boolean isSmall() {
+        return bigNum == null;
+    }
+
+    long num() {
+        return num;
     }
 
-    private Pair simplify(final BigInteger num, final BigInteger denom) {
+    long denom() {
+        return denom;
+    }
 
-        if (num.equals(new BigInteger("0"))) {
-            return new Pair(new BigInteger("0"), new BigInteger("1"));
-        }
+    private BigInteger rawNumerator() {
+        return isSmall() ? BigInteger.valueOf(num) : bigNum;
+    }
 
-        var gcd = new BigInteger("2");
-        var result = new Pair(num, denom);
-        while (gcd.intValue() > 1) {
-            gcd = gcd(result.value0(), result.value1());
+    private BigInteger rawDenominator() {
+        return isSmall() ? BigInteger.valueOf(denom) : bigDenom;
+    }
 
-            final var newNum = result.value0().divide(gcd);
-            final var newDenom = result.value1().divide(gcd);
-            result = new Pair(newNum, newDenom);
+    private Fraction normalize() {
+        if (reduced) {
+            return this;
+        }
+        var result = normalized;
+        if (result == null) {
+            final var gcd = gcd(num, denom);
+            result = intern(num / gcd, denom / gcd, true);
+            normalized = result;
         }
         return result;
     }
 
-    private BigInteger gcd(final BigInteger num, final BigInteger denom) {
+    private Fraction reciprocal() {
+        if (signum() == 0) {
+            throw new ArithmeticException();
+        }
+        if (isSmall()) {
+            return num < 0
+                    ? intern(-denom, -num, reduced)
+                    : intern(denom, num, reduced);
+        }
+        return of(bigDenom, bigNum);
+    }
+
+    private static Fraction parse(final String fraction) {
+        if (fraction.contains("/")) {
+            final var split = fraction.split("/");
+            if (split.length != 2 || BigInteger.ZERO.equals(new BigInteger(split[1]))) {
+                throw new IllegalArgumentException();
+            }
+            return of(new BigInteger(split[0]), new BigInteger(split[1]));
+        }
+        if (fraction.contains(".")) {
+            final var split = fraction.split("\\.");
+            if (split.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            final var num = new BigInteger(fraction.replace(".", ""));
+            return of(num, BigInteger.TEN.pow(split[1].length()));
+        }
+        return of(new BigInteger(fraction), BigInteger.ONE);
+    }
 
-        var first = num.abs();
-        var second = denom.abs();
-        final int c = first.compareTo(second);
-        if (c == 0) {
-            return first;
-        } else if (c < 0) {
-            first = denom.abs();
-            second = num.abs();
+    private static Fraction of(final BigInteger num, final BigInteger denom) {
+        if (denom.signum() == 0) {
+            throw new ArithmeticException();
+        }
+        if (num.signum() == 0) {
+            return ZERO;
         }
+        final var gcd = num.gcd(denom);
+        final var sign = denom.signum();
+        final var reducedNum = num.divide(gcd);
+        final var reducedDenom = denom.divide(gcd);
+        final var normalizedNum = sign < 0 ? reducedNum.negate() : reducedNum;
+        final var normalizedDenom = sign < 0 ? reducedDenom.negate() : reducedDenom;
+        if (normalizedNum.bitLength() < Long.SIZE && normalizedDenom.bitLength() < Long.SIZE &&
+                !LONG_MIN.equals(normalizedNum)) {
+            return intern(normalizedNum.longValue(), normalizedDenom.longValue(), true);
+        }
+        return new Fraction(0, 0, normalizedNum, normalizedDenom, null, true);
+    }
 
-        BigInteger result;
-        while (true) {
-            final var remainder = first.subtract((first.divide(second)).multiply(second));
-            first = second;
-            result = second;
-            second = remainder;
+    // expects a positive denominator, the fraction is only reduced once it exceeds REDUCE_BITS
+    static Fraction ofLazy(final long num, final long denom) {
+        if (num == 0) {
+            return ZERO;
+        }
+        if ((Math.absExact(num) | denom) >>> REDUCE_BITS == 0) {
+            return intern(num, denom, false);
+        }
+        final var gcd = gcd(num, denom);
+        return intern(num / gcd, denom / gcd, true);
+    }
 
-            if (remainder.equals(new BigInteger("0"))) {
-                break;
-            }
+    // expects a positive denominator, small values are reduced and shared
+    private static Fraction intern(final long num, final long denom, final boolean reduced) {
+        if (num < -CACHE_RANGE || num > CACHE_RANGE || denom > CACHE_RANGE) {
+            return new Fraction(num, denom, null, null, null, reduced);
         }
-        return result;
+        final var gcd = gcd(num, denom);
+        final var index = (int) ((denom / gcd - 1) * CACHE_ROW + num / gcd + CACHE_RANGE);
+        final var cached = CACHE.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        final var created = new Fraction(num / gcd, denom / gcd, null, null, null, true);
+        final var witness = CACHE.compareAndExchange(index, null, created);
+        return witness == null ? created : witness;
+    }
+
+    // compares a * b with c * d without overflow
+    private static int compareProducts(final long a, final long b, final long c, final long d) {
+        final var high = Long.compare(Math.multiplyHigh(a, b), Math.multiplyHigh(c, d));
+        if (high != 0) {
+            return high;
+        }
+        return Long.compareUnsigned(a * b, c * d);
     }
 
-    @SuppressWarnings("ClassMemberImpliedModifier")
-    record Pair(BigInteger value0, BigInteger value1) {
+    // binary gcd, throws an ArithmeticException for Long.MIN_VALUE and returns 1 if both arguments are zero
+    static long gcd(final long a, final long b) {
+        var x = Math.absExact(a);
+        var y = Math.absExact(b);
+        if (x == 0 || y == 0) {
+            return Math.max(Math.max(x, y), 1);
+        }
+        final var shift = Long.numberOfTrailingZeros(x | y);
+        x >>= Long.numberOfTrailingZeros(x);
+        while (y != 0) {
+            y >>= Long.numberOfTrailingZeros(y);
+            if (x > y) {
+                final var temp = y;
+                y = x;
+                x = temp;
+            }
+            y -= x;
+        }
+        return x << shift;
     }
 }
@@ -28,6 +28,10 @@ public enum InfinityType {
         return o2.equals(NEGATIVE) ? 1 : -1;
     }
 
+    static InfinityType negate(final InfinityType o) {
+        return o == POSITIVE ? NEGATIVE : POSITIVE;
+    }
+
     static InfinityType calculate(final InfinityType o1, final InfinityType o2) {
         if (o1 != null && o2 != null) {
             throw new IllegalArgumentException();
@@ -0,0 +1,42 @@
+package com.danielptv.simplex.number;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.math.BigDecimal;
+
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class MutableDecimal implements Accumulator<RoundedDecimal> {
+    // the sum is kept exact and only rounded on snapshot, infinite values are kept as an immutable decimal
+    private RoundedDecimal generator;
+    private BigDecimal sum;
+    private int resolution;
+    private RoundedDecimal overflow;
+
+    @Override
+    public void set(final RoundedDecimal d) {
+        if (d.isInfinite()) {
+            overflow = d;
+            return;
+        }
+        generator = d;
+        sum = d.getValue();
+        resolution = d.resolution(sum);
+        overflow = null;
+    }
+
+    @Override
+    public void addProduct(final RoundedDecimal a, final RoundedDecimal b) {
+        if (overflow != null || a.isInfinite() || b.isInfinite()) {
+            overflow = snapshot().fma(a, b);
+            return;
+        }
+        final var product = a.getValue().multiply(b.getValue());
+        resolution = Math.min(resolution, generator.resolution(product));
+        sum = sum.add(product);
+    }
+
+    @Override
+    public RoundedDecimal snapshot() {
+        return overflow != null ? overflow : generator.roundSum(sum, resolution);
+    }
+}
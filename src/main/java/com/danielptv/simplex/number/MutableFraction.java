@@ -0,0 +1,56 @@
+package com.danielptv.simplex.number;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class MutableFraction implements Accumulator<Fraction> {
+    // the value is held in num / denom until it leaves the long range, afterwards it is kept as an immutable fraction
+    private long num;
+    private long denom = 1;
+    private Fraction overflow;
+
+    @Override
+    public void set(final Fraction f) {
+        if (isLong(f)) {
+            num = f.num();
+            denom = f.denom();
+            overflow = null;
+            return;
+        }
+        overflow = f;
+    }
+
+    @Override
+    public void addProduct(final Fraction a, final Fraction b) {
+        if (overflow == null && isLong(a) && isLong(b)) {
+            try {
+                final var productNum = Math.multiplyExact(a.num(), b.num());
+                final var productDenom = Math.multiplyExact(a.denom(), b.denom());
+                var newNum = denom == productDenom
+                        ? Math.addExact(num, productNum)
+                        : Math.addExact(Math.multiplyExact(num, productDenom), Math.multiplyExact(productNum, denom));
+                var newDenom = denom == productDenom ? denom : Math.multiplyExact(denom, productDenom);
+                if ((Math.absExact(newNum) | newDenom) >>> Fraction.REDUCE_BITS != 0) {
+                    final var gcd = Fraction.gcd(newNum, newDenom);
+                    newNum /= gcd;
+                    newDenom /= gcd;
+                }
+                num = newNum;
+                denom = newDenom;
+                return;
+            } catch (ArithmeticException e) {
+                // fall through to immutable arithmetic
+            }
+        }
+        overflow = snapshot().fma(a, b);
+    }
+
+    @Override
+    public Fraction snapshot() {
+        return overflow != null ? overflow : Fraction.ofLazy(num, denom);
+    }
+
+    private static boolean isLong(final Fraction f) {
+        return f.isSmall() && !f.isInfinite();
+    }
+}
@@ -5,10 +5,14 @@ import lombok.Getter;
 import lombok.NonNull;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
+    private static final Map<Integer, Constants> CONSTANTS = new ConcurrentHashMap<>();
     @EqualsAndHashCode.Include
     @Getter
     private final BigDecimal value;
@@ -24,7 +28,6 @@ public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
         infinityType = null;
     }
 
-    @SuppressWarnings("MagicNumber")
     public RoundedDecimal(final String s, final int mantissaLength) {
         infinityType = null;
         this.mantissaLength = mantissaLength;
@@ -33,8 +36,7 @@ public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
             if (split.length != 2 || new BigDecimal("0").equals(new BigDecimal(split[1]))) {
                 throw new IllegalArgumentException();
             }
-            value = round(new BigDecimal(split[0]).divide(new BigDecimal(split[1]),
-                    mantissaLength + 20, RoundingMode.HALF_EVEN));
+            value = round(new BigDecimal(split[0]).divide(new BigDecimal(split[1]), constants().mathContext()));
             return;
         }
         value = round(new BigDecimal(s));
@@ -46,6 +48,12 @@ public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
         infinityType = null;
     }
 
+    private RoundedDecimal(final BigDecimal b, final int mantissaLength, final boolean rounded) {
+        this.mantissaLength = mantissaLength;
+        value = rounded ? b : round(b);
+        infinityType = null;
+    }
+
     private RoundedDecimal(final InfinityType infinityType) {
         value = null;
         this.infinityType = infinityType;
@@ -73,17 +81,15 @@ public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
         if (this.isInfinite() || d.isInfinite()) {
             return new RoundedDecimal(InfinityType.calculate(infinityType, d.infinityType));
         }
-        return new RoundedDecimal(value.multiply(d.value), d.mantissaLength);
+        return d.rounded(value.multiply(d.value));
     }
 
     @Override
-    @SuppressWarnings("MagicNumber")
     public RoundedDecimal divide(final RoundedDecimal d) {
         if (this.isInfinite() || d.isInfinite()) {
             return new RoundedDecimal(InfinityType.calculate(infinityType, d.infinityType));
         }
-        return new RoundedDecimal(value.divide(d.value,
-                d.value.precision() + value.precision() + 20, RoundingMode.HALF_EVEN), d.mantissaLength);
+        return d.rounded(value.divide(d.value, d.constants().mathContext()));
     }
 
     @Override
@@ -91,12 +97,73 @@ public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
         if (this.isInfinite() || d.isInfinite()) {
             return new RoundedDecimal(InfinityType.calculate(infinityType, d.infinityType));
         }
-        return new RoundedDecimal(value.add(d.value), d.mantissaLength);
+        return d.rounded(value.add(d.value));
+    }
+
+    @Override
+    public RoundedDecimal fma(final RoundedDecimal a, final RoundedDecimal b) {
+        if (this.isInfinite() || a.isInfinite() || b.isInfinite()) {
+            return add(a.multiply(b));
+        }
+        final var product = a.value.multiply(b.value);
+        return roundSum(value.add(product), Math.min(resolution(value), resolution(product)));
+    }
+
+    @Override
+    public RoundedDecimal negate() {
+        if (this.isInfinite()) {
+            return new RoundedDecimal(InfinityType.negate(infinityType));
+        }
+        return intern(value.negate());
+    }
+
+    @Override
+    public RoundedDecimal subtract(final RoundedDecimal d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return add(d.negate());
+        }
+        return d.rounded(value.subtract(d.value));
     }
 
     @Override
     public RoundedDecimal create(final String s) {
-        return new RoundedDecimal(s, this.mantissaLength);
+        return intern(new RoundedDecimal(s, this.mantissaLength).value);
+    }
+
+    @Override
+    public RoundedDecimal fromLong(final long l) {
+        return rounded(BigDecimal.valueOf(l));
+    }
+
+    @Override
+    public RoundedDecimal fromRational(final long numerator, final long denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException();
+        }
+        return rounded(BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), constants().mathContext()));
+    }
+
+    @Override
+    public RoundedDecimal zero() {
+        return constants().zero();
+    }
+
+    @Override
+    public RoundedDecimal one() {
+        return constants().one();
+    }
+
+    @Override
+    public RoundedDecimal minusOne() {
+        return constants().minusOne();
+    }
+
+    @Override
+    public int signum() {
+        if (this.isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? 1 : -1;
+        }
+        return value.signum();
     }
 
     @Override
@@ -114,27 +181,64 @@ public class RoundedDecimal implements CalculableImpl<RoundedDecimal> {
         return infinityType != null;
     }
 
-    @SuppressWarnings("MagicNumber")
+    @Override
+    public Accumulator<RoundedDecimal> accumulator() {
+        return new MutableDecimal();
+    }
+
+    // rounds an exact sum once, digits below the given scale are cancellation noise of its larger term
+    RoundedDecimal roundSum(final BigDecimal exact, final int scale) {
+        final var rounded = round(exact);
+        if (rounded.scale() <= scale) {
+            return intern(rounded);
+        }
+        return rounded(exact.setScale(scale, RoundingMode.HALF_EVEN));
+    }
+
+    // scale of the last significant digit, zero has no significant digits and does not restrict the scale
+    int resolution(final BigDecimal d) {
+        return d.signum() == 0 ? Integer.MAX_VALUE : mantissaLength - d.precision() + d.scale();
+    }
+
+    private Constants constants() {
+        return CONSTANTS.computeIfAbsent(mantissaLength, Constants::of);
+    }
+
+    private RoundedDecimal rounded(final BigDecimal exact) {
+        return intern(round(exact));
+    }
+
+    // zero and plus or minus one are shared, they make up most of the unit and helper columns
+    private RoundedDecimal intern(final BigDecimal rounded) {
+        final var constants = constants();
+        if (rounded.signum() == 0) {
+            return constants.zero();
+        }
+        if (rounded.equals(constants.one().value)) {
+            return constants.one();
+        }
+        return rounded.equals(constants.minusOne().value)
+                ? constants.minusOne()
+                : new RoundedDecimal(rounded, mantissaLength, true);
+    }
+
     private BigDecimal round(final BigDecimal d) {
+        if (d.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return d.round(constants().mathContext()).stripTrailingZeros();
+    }
 
-        if (d.doubleValue() == 0) {
-            return new BigDecimal("0");
-        }
-
-        if (d.doubleValue() >= 1 || d.doubleValue() <= -1) {
-            final var factor = BigDecimal.valueOf(Math.pow(10, d.precision() - d.scale()));
-            final var rounded = d.divide(factor, mantissaLength, RoundingMode.HALF_EVEN);
-            return rounded.multiply(factor).setScale(mantissaLength, RoundingMode.HALF_EVEN).stripTrailingZeros();
-        } else {
-            final var fracDigits = d.abs().toPlainString().split("\\.")[1];
-            var digits = 0;
-            for (int i = 0; i < fracDigits.length(); ++i) {
-                if (fracDigits.charAt(i) != '0') {
-                    break;
-                }
-                digits += 1;
-            }
-            return d.setScale(digits + mantissaLength, RoundingMode.HALF_EVEN).stripTrailingZeros();
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    record Constants(RoundedDecimal zero, RoundedDecimal one, RoundedDecimal minusOne, MathContext mathContext) {
+        static Constants of(final int mantissaLength) {
+            return new Constants(
+                    new RoundedDecimal(BigDecimal.ZERO, mantissaLength, true),
+                    new RoundedDecimal(BigDecimal.ONE, mantissaLength, true),
+                    new RoundedDecimal(BigDecimal.ONE.negate(), mantissaLength, true),
+                    // a precision of 0 would mean unlimited precision
+                    new MathContext(Math.max(mantissaLength, 1), RoundingMode.HALF_EVEN)
+            );
         }
     }
 }
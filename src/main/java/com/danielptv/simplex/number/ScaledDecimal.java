@@ -0,0 +1,352 @@
+package com.danielptv.simplex.number;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+// same rounding as RoundedDecimal, but the value is kept as unscaledValue * 10^-scale in a long, operations that would
+// overflow are carried out by RoundedDecimal instead
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class ScaledDecimal implements CalculableImpl<ScaledDecimal> {
+    public static final int MAX_MANTISSA_LENGTH = 8;
+    @SuppressWarnings("MagicNumber")
+    private static final long[] POWERS_OF_TEN = LongStream.iterate(1, p -> p * 10).limit(19).toArray();
+    private static final Map<Integer, Constants> CONSTANTS = new ConcurrentHashMap<>();
+    @EqualsAndHashCode.Include
+    @Getter
+    private final long unscaledValue;
+    @EqualsAndHashCode.Include
+    @Getter
+    private final int scale;
+    @EqualsAndHashCode.Include
+    @Getter
+    private final InfinityType infinityType;
+    @Getter
+    private final int mantissaLength;
+
+    public ScaledDecimal(final int mantissaLength) {
+        this(0, 0, null, mantissaLength);
+    }
+
+    public ScaledDecimal(final String s, final int mantissaLength) {
+        this(new ScaledDecimal(mantissaLength).fromRounded(new RoundedDecimal(s, mantissaLength)));
+    }
+
+    private ScaledDecimal(final ScaledDecimal d) {
+        this(d.unscaledValue, d.scale, d.infinityType, d.mantissaLength);
+    }
+
+    private ScaledDecimal(
+            final long unscaledValue,
+            final int scale,
+            final InfinityType infinityType,
+            final int mantissaLength
+    ) {
+        if (!isSupported(mantissaLength)) {
+            throw new IllegalArgumentException();
+        }
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        this.infinityType = infinityType;
+        this.mantissaLength = mantissaLength;
+    }
+
+    public static ScaledDecimal of(final int mantissaLength) {
+        return new ScaledDecimal(mantissaLength);
+    }
+
+    public static boolean isSupported(final int mantissaLength) {
+        return mantissaLength >= 1 && mantissaLength <= MAX_MANTISSA_LENGTH;
+    }
+
+    @Override
+    public String toString() {
+        if (infinityType != null) {
+            return infinityType.toString();
+        }
+        return BigDecimal.valueOf(unscaledValue, scale).toPlainString();
+    }
+
+    @Override
+    @SuppressWarnings("ReturnCount")
+    public int compareTo(@NonNull final ScaledDecimal o) {
+        if (infinityType != null || o.infinityType != null) {
+            return InfinityType.compare(infinityType, o.infinityType);
+        }
+        final var sign = Long.signum(unscaledValue);
+        final var otherSign = Long.signum(o.unscaledValue);
+        if (sign != otherSign || sign == 0) {
+            return Integer.compare(sign, otherSign);
+        }
+        // both values are normalized, so the position of the leading digit decides unless it is equal
+        final var position = digits(unscaledValue) - scale;
+        final var otherPosition = digits(o.unscaledValue) - o.scale;
+        if (position != otherPosition) {
+            return sign * Integer.compare(position, otherPosition);
+        }
+        final var target = Math.max(scale, o.scale);
+        return Long.compare(align(unscaledValue, target - scale), align(o.unscaledValue, target - o.scale));
+    }
+
+    @Override
+    public ScaledDecimal multiply(final ScaledDecimal d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return toInfinity(InfinityType.calculate(infinityType, d.infinityType));
+        }
+        try {
+            return round(Math.multiplyExact(unscaledValue, d.unscaledValue), Math.addExact(scale, d.scale));
+        } catch (ArithmeticException e) {
+            return fromRounded(toRounded().multiply(d.toRounded()));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("ReturnCount")
+    public ScaledDecimal divide(final ScaledDecimal d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return toInfinity(InfinityType.calculate(infinityType, d.infinityType));
+        }
+        if (d.unscaledValue == 0) {
+            throw new ArithmeticException();
+        }
+        if (unscaledValue == 0) {
+            return zero();
+        }
+        try {
+            // widen the dividend so the quotient has at least two digits more than the mantissa
+            final var shift = Math.max(0, mantissaLength + 2 + digits(d.unscaledValue) - digits(unscaledValue));
+            final var dividend = align(unscaledValue, shift);
+            final var quotient = dividend / d.unscaledValue;
+            final var quotientScale = Math.addExact(Math.subtractExact(scale, d.scale), shift);
+            final var sticky = dividend % d.unscaledValue != 0;
+            return roundAt(quotient, quotientScale, mantissaScale(quotient, quotientScale), sticky);
+        } catch (ArithmeticException e) {
+            return fromRounded(toRounded().divide(d.toRounded()));
+        }
+    }
+
+    @Override
+    public ScaledDecimal add(final ScaledDecimal d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return toInfinity(InfinityType.calculate(infinityType, d.infinityType));
+        }
+        try {
+            final var target = Math.max(scale, d.scale);
+            final var sum = Math.addExact(align(unscaledValue, target - scale), align(d.unscaledValue, target - d.scale));
+            return round(sum, target);
+        } catch (ArithmeticException e) {
+            return fromRounded(toRounded().add(d.toRounded()));
+        }
+    }
+
+    @Override
+    public ScaledDecimal subtract(final ScaledDecimal d) {
+        if (this.isInfinite() || d.isInfinite()) {
+            return add(d.negate());
+        }
+        return add(new ScaledDecimal(-d.unscaledValue, d.scale, null, d.mantissaLength));
+    }
+
+    @Override
+    @SuppressWarnings("ReturnCount")
+    public ScaledDecimal fma(final ScaledDecimal a, final ScaledDecimal b) {
+        if (this.isInfinite() || a.isInfinite() || b.isInfinite()) {
+            return add(a.multiply(b));
+        }
+        try {
+            final var product = Math.multiplyExact(a.unscaledValue, b.unscaledValue);
+            final var productScale = Math.addExact(a.scale, b.scale);
+            if (product == 0) {
+                return this;
+            }
+            if (unscaledValue == 0) {
+                return round(product, productScale);
+            }
+            final var target = Math.max(scale, productScale);
+            final var sum = Math.addExact(align(unscaledValue, target - scale), align(product, target - productScale));
+
+            // digits below the resolution of the larger term are cancellation noise and must not survive
+            final var resolution = Math.min(mantissaScale(unscaledValue, scale), mantissaScale(product, productScale));
+            final var rounded = round(sum, target);
+            if (rounded.scale <= resolution) {
+                return rounded;
+            }
+            return roundAt(sum, target, resolution, false);
+        } catch (ArithmeticException e) {
+            return fromRounded(toRounded().fma(a.toRounded(), b.toRounded()));
+        }
+    }
+
+    @Override
+    public ScaledDecimal negate() {
+        if (this.isInfinite()) {
+            return toInfinity(InfinityType.negate(infinityType));
+        }
+        return new ScaledDecimal(-unscaledValue, scale, null, mantissaLength);
+    }
+
+    @Override
+    public ScaledDecimal create(final String s) {
+        return fromRounded(new RoundedDecimal(s, mantissaLength));
+    }
+
+    @Override
+    public ScaledDecimal fromLong(final long l) {
+        if (l == Long.MIN_VALUE) {
+            return fromRounded(toRounded().fromLong(l));
+        }
+        return round(l, 0);
+    }
+
+    @Override
+    public ScaledDecimal fromRational(final long numerator, final long denominator) {
+        return fromRounded(toRounded().fromRational(numerator, denominator));
+    }
+
+    @Override
+    public ScaledDecimal zero() {
+        return constants().zero();
+    }
+
+    @Override
+    public ScaledDecimal one() {
+        return constants().one();
+    }
+
+    @Override
+    public ScaledDecimal minusOne() {
+        return constants().minusOne();
+    }
+
+    @Override
+    public int signum() {
+        if (this.isInfinite()) {
+            return infinityType == InfinityType.POSITIVE ? 1 : -1;
+        }
+        return Long.signum(unscaledValue);
+    }
+
+    @Override
+    public BigDecimal toDecimal() {
+        return BigDecimal.valueOf(unscaledValue, scale).setScale(2, RoundingMode.HALF_EVEN).stripTrailingZeros();
+    }
+
+    @Override
+    public ScaledDecimal toInfinity(final InfinityType type) {
+        return new ScaledDecimal(0, 0, type, mantissaLength);
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return infinityType != null;
+    }
+
+    public RoundedDecimal toRounded() {
+        if (isInfinite()) {
+            return new RoundedDecimal(mantissaLength).toInfinity(infinityType);
+        }
+        return new RoundedDecimal(BigDecimal.valueOf(unscaledValue, scale), mantissaLength);
+    }
+
+    private ScaledDecimal fromRounded(final RoundedDecimal d) {
+        if (d.isInfinite()) {
+            return toInfinity(d.getInfinityType());
+        }
+        return normalize(d.getValue().unscaledValue().longValueExact(), d.getValue().scale());
+    }
+
+    private Constants constants() {
+        return CONSTANTS.computeIfAbsent(mantissaLength, Constants::of);
+    }
+
+    // scale of the last significant digit when unscaled * 10^-scale is rounded to the mantissa length
+    private int mantissaScale(final long unscaled, final int unscaledScale) {
+        return Math.addExact(mantissaLength - digits(unscaled), unscaledScale);
+    }
+
+    private ScaledDecimal round(final long unscaled, final int unscaledScale) {
+        if (digits(unscaled) <= mantissaLength) {
+            return normalize(unscaled, unscaledScale);
+        }
+        return roundAt(unscaled, unscaledScale, mantissaScale(unscaled, unscaledScale), false);
+    }
+
+    // rounds half to even, sticky marks non-zero digits that were already cut off below the unscaled value
+    private ScaledDecimal roundAt(
+            final long unscaled,
+            final int unscaledScale,
+            final int targetScale,
+            final boolean sticky
+    ) {
+        final var drop = unscaledScale - targetScale;
+        if (drop <= 0) {
+            return normalize(unscaled, unscaledScale);
+        }
+        if (drop >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException();
+        }
+        final var divisor = POWERS_OF_TEN[drop];
+        final var abs = Math.absExact(unscaled);
+        final var remainder = abs % divisor;
+        final var half = divisor / 2;
+        var quotient = abs / divisor;
+        final var isTieUp = sticky || (quotient & 1) == 1;
+        if (remainder > half || remainder == half && isTieUp) {
+            ++quotient;
+        }
+        return normalize(Long.signum(unscaled) * quotient, targetScale);
+    }
+
+    @SuppressWarnings("MagicNumber")
+    private ScaledDecimal normalize(final long unscaled, final int unscaledScale) {
+        if (unscaled == 0) {
+            return zero();
+        }
+        var value = unscaled;
+        var valueScale = unscaledScale;
+        while (value % 10 == 0) {
+            value /= 10;
+            --valueScale;
+        }
+        if (valueScale == 0 && Math.abs(value) == 1) {
+            return value == 1 ? one() : minusOne();
+        }
+        return new ScaledDecimal(value, valueScale, null, mantissaLength);
+    }
+
+    private static long align(final long unscaled, final int shift) {
+        if (unscaled == 0 || shift == 0) {
+            return unscaled;
+        }
+        if (shift >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException();
+        }
+        return Math.multiplyExact(unscaled, POWERS_OF_TEN[shift]);
+    }
+
+    private static int digits(final long unscaled) {
+        final var abs = Math.absExact(unscaled);
+        var digits = 1;
+        while (digits < POWERS_OF_TEN.length && POWERS_OF_TEN[digits] <= abs) {
+            ++digits;
+        }
+        return digits;
+    }
+
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    record Constants(ScaledDecimal zero, ScaledDecimal one, ScaledDecimal minusOne) {
+        static Constants of(final int mantissaLength) {
+            return new Constants(
+                    new ScaledDecimal(0, 0, null, mantissaLength),
+                    new ScaledDecimal(1, 0, null, mantissaLength),
+                    new ScaledDecimal(-1, 0, null, mantissaLength)
+            );
+        }
+    }
+}
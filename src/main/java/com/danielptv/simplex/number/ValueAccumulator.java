@@ -0,0 +1,20 @@
+package com.danielptv.simplex.number;
+
+final class ValueAccumulator<T extends CalculableImpl<T>> implements Accumulator<T> {
+    private T value;
+
+    @Override
+    public void set(final T t) {
+        value = t;
+    }
+
+    @Override
+    public void addProduct(final T a, final T b) {
+        value = value.fma(a, b);
+    }
+
+    @Override
+    public T snapshot() {
+        return value;
+    }
+}
@@ -0,0 +1,113 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Phase;
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.SpecialSolutionType;
+import com.danielptv.simplex.number.CalculableImpl;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.danielptv.simplex.entity.SpecialSolutionType.INFEASIBLE;
+import static com.danielptv.simplex.entity.SpecialSolutionType.MULTIPLE_SOLUTIONS;
+import static com.danielptv.simplex.entity.SpecialSolutionType.UNBOUNDED;
+
+// engines that only calculate the criterion line, the right hand side and the pivot column in every iteration, the
+// initial and the last table of each phase are kept
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+abstract class AbstractPartialSimplex<T extends CalculableImpl<T>> implements SimplexEngine<T> {
+    private final TwoPhaseSimplex<T> simplex;
+    private final TableCalcService<T> calcService;
+    private final TableExtensionService<T> extensionService;
+
+    AbstractPartialSimplex(final TwoPhaseSimplex<T> simplex) {
+        this.simplex = simplex;
+        calcService = simplex.getCalcService();
+        extensionService = simplex.getExtensionService();
+    }
+
+    abstract PartialTableau<T> start(SimplexTable<T> table);
+
+    @Override
+    public List<Phase<T>> calc(final SimplexTable<T> simplexTable) {
+        final var result = new ArrayList<Phase<T>>(2);
+        var table = simplexTable;
+
+        // optional phase 1
+        if (calcService.isInvalid(table)) {
+            final var extended = simplex.transformToCanonical(extensionService.buildExtension(table));
+            final var phase = iterate(extended, false);
+            result.add(phase);
+
+            if (phase.specialSolutionType() != null) {
+                return result;
+            }
+            table = extensionService.removeExtension(phase.getLastTable());
+        }
+
+        // primary simplex algorithm
+        result.add(iterate(table, result.isEmpty()));
+        return result;
+    }
+
+    private Phase<T> iterate(final SimplexTable<T> table, final boolean singlePhase) {
+        final var isExtended = table.helperColumns() != 0;
+        final var partial = start(table);
+        var objective = table.lHS().get(0);
+        var rHS = table.rHS();
+        var pivot = table.pivot();
+        var basis = table.basis();
+        // the initial table may be infeasible or unbounded already
+        var specialSolution = specialSolution(isExtended, objective, rHS, pivot);
+
+        var count = 0;
+        while (specialSolution == null &&
+                (isExtended ? calcService.isInvalid(rHS, true) : !objective.isPositive())) {
+            partial.pivot(pivot);
+            basis = calcService.updateBasis(basis, pivot);
+            ++count;
+
+            objective = partial.objective();
+            rHS = partial.rHS();
+            final var column = objective.getMinIndex();
+            pivot = calcService.setPivot(column, partial.column(column), rHS, isExtended);
+            specialSolution = specialSolution(isExtended, objective, rHS, pivot);
+        }
+
+        final var tables = new ArrayList<SimplexTable<T>>();
+        tables.add(new SimplexTable<>(table, "INITIAL TABLE"));
+        if (count != 0) {
+            tables.add(new SimplexTable<>(
+                    "ITERATION " + count,
+                    partial.tableau(),
+                    pivot,
+                    table.variables(),
+                    basis,
+                    table.helperColumns(),
+                    table.bounds()
+            ));
+        }
+        final var lastTable = tables.get(tables.size() - 1);
+        if (specialSolution == null && !isExtended && calcService.isDegenerate(lastTable)) {
+            specialSolution = MULTIPLE_SOLUTIONS;
+        }
+        return new Phase<>(tables, specialSolution, singlePhase);
+    }
+
+    // phase 1 cannot lower the criterion line anymore, or the entering column of phase 2 has no limit
+    private static <T extends CalculableImpl<T>> SpecialSolutionType specialSolution(
+            final boolean isExtended,
+            final Row<T> objective,
+            final List<T> rHS,
+            final Pivot<T> pivot
+    ) {
+        final var isStuck = objective.isPositive() || pivot.value().isInfinite();
+        if (isExtended) {
+            return isStuck && !rHS.get(0).isZero() ? INFEASIBLE : null;
+        }
+        return !objective.isPositive() && pivot.value().isInfinite() ? UNBOUNDED : null;
+    }
+}
@@ -0,0 +1,133 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Phase;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.number.FloatingPoint;
+import com.danielptv.simplex.number.Fraction;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+import java.util.List;
+
+// pivots with floating point numbers as long as they keep enough significant digits, once the entries grow too large
+// or a pivot becomes small compared to its column the table is promoted to fractions at the current basis
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class AdaptiveSimplex implements SimplexEngine<Fraction> {
+    // entries may grow by this factor before rounding errors reach the comparison tolerance of FloatingPoint
+    private static final double GROWTH_LIMIT = 1e6;
+    private static final double PIVOT_LIMIT = 1e-6;
+    private final TwoPhaseSimplex<Fraction> simplex;
+    private final CertifiedSimplex certifiedSimplex;
+    private final TwoPhaseSimplex<FloatingPoint> floatSimplex;
+    private final TableCalcService<FloatingPoint> floatCalcService;
+
+    public AdaptiveSimplex(final TwoPhaseSimplex<Fraction> simplex) {
+        this.simplex = simplex;
+        certifiedSimplex = new CertifiedSimplex(simplex);
+        floatSimplex = certifiedSimplex.getFloatSimplex();
+        floatCalcService = floatSimplex.getCalcService();
+    }
+
+    @Override
+    public List<Phase<Fraction>> calc(final SimplexTable<Fraction> simplexTable) {
+        final SimplexTable<FloatingPoint> floatTable;
+        try {
+            floatTable = iterate(certifiedSimplex.toFloatingPoint(simplexTable));
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return simplex.calc(simplexTable);
+        }
+        return certifiedSimplex.certify(simplexTable, floatTable);
+    }
+
+    // returns the table of the basis to continue exactly from
+    private SimplexTable<FloatingPoint> iterate(final SimplexTable<FloatingPoint> initialTable) {
+        final var run = new FloatRun(floatSimplex, initialTable);
+        if (!floatCalcService.isInvalid(initialTable)) {
+            return phase2(run);
+        }
+        final var extensionService = floatSimplex.getExtensionService();
+        run.replace(floatSimplex.transformToCanonical(extensionService.buildExtension(initialTable)));
+        final var table = phase1(run);
+        if (floatCalcService.isInvalid(table) || run.isUnstable()) {
+            return table;
+        }
+        run.replace(extensionService.removeExtension(table));
+        return phase2(run);
+    }
+
+    private SimplexTable<FloatingPoint> phase1(final FloatRun run) {
+        while (floatCalcService.isInvalid(run.table) && !floatCalcService.isInfeasible(run.table) && !run.isUnstable()) {
+            run.transform();
+        }
+        return run.table;
+    }
+
+    private SimplexTable<FloatingPoint> phase2(final FloatRun run) {
+        while (!floatCalcService.isOptimal(run.table) && !run.table.pivot().value().isInfinite() && !run.isUnstable()) {
+            run.transform();
+        }
+        return run.table;
+    }
+
+    // the current table of the floating point solve and the largest entry it has reached so far, after a pivot only the
+    // rows that were changed by it are scanned for larger entries
+    private static final class FloatRun {
+        private final TwoPhaseSimplex<FloatingPoint> simplex;
+        private final double limit;
+        private SimplexTable<FloatingPoint> table;
+        private double magnitude;
+
+        FloatRun(final TwoPhaseSimplex<FloatingPoint> simplex, final SimplexTable<FloatingPoint> initialTable) {
+            this.simplex = simplex;
+            table = initialTable;
+            magnitude = magnitude(initialTable.tableau(), 0, initialTable.rows());
+            limit = magnitude * GROWTH_LIMIT;
+        }
+
+        void transform() {
+            final var pivot = table.pivot();
+            final var previous = table.tableau();
+            table = simplex.transform(table);
+            for (int row = 0; row < table.rows(); ++row) {
+                if (row == pivot.row() || !previous.get(row, pivot.column()).isZero()) {
+                    magnitude = Math.max(magnitude, magnitude(table.tableau(), row, row + 1));
+                }
+            }
+        }
+
+        void replace(final SimplexTable<FloatingPoint> newTable) {
+            table = newTable;
+            magnitude = Math.max(magnitude, magnitude(newTable.tableau(), 0, newTable.rows()));
+        }
+
+        boolean isUnstable() {
+            final var pivot = table.pivot();
+            if (magnitude > limit) {
+                return true;
+            }
+            if (pivot.value().isInfinite()) {
+                return false;
+            }
+            final var tableau = table.tableau();
+            var columnMagnitude = 0.0;
+            for (int row = 0; row < tableau.getRows(); ++row) {
+                columnMagnitude = Math.max(columnMagnitude, Math.abs(tableau.get(row, pivot.column()).getValue()));
+            }
+            return Math.abs(pivot.value().getValue()) < PIVOT_LIMIT * columnMagnitude;
+        }
+
+        // the last column of the tableau is the right-hand side
+        private static double magnitude(final Tableau<FloatingPoint> tableau, final int from, final int to) {
+            var result = 0.0;
+            for (int row = from; row < to; ++row) {
+                for (int column = 0; column <= tableau.getColumns(); ++column) {
+                    final var entry = tableau.get(row, column);
+                    if (!entry.isInfinite()) {
+                        result = Math.max(result, Math.abs(entry.getValue()));
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
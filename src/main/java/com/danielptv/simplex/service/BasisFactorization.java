@@ -0,0 +1,220 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.DenseTableau;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.number.Accumulator;
+import com.danielptv.simplex.number.CalculableImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// lu factorization of the basis of a revised simplex, the basis consists of the columns of the initial table that
+// belong to the basic variables and a unit column for every criterion line or helper variable that is not part of
+// the table, pivots after the factorization are kept as eta matrices in product form
+final class BasisFactorization<T extends CalculableImpl<T>> {
+    private final T generator;
+    private final int size;
+    // l below the diagonal with an implicit unit diagonal, u on and above the diagonal
+    private final Tableau<T> lu;
+    // row i of the factorized matrix is row permutation[i] of the basis
+    private final int[] permutation;
+    private final List<Eta<T>> etas = new ArrayList<>();
+    // sums the products of a substitution without allocating a number per product
+    private final Accumulator<T> accumulator;
+
+    BasisFactorization(final Tableau<T> initial, final int[] basis) {
+        generator = initial.getGenerator();
+        accumulator = generator.accumulator();
+        size = initial.getRows();
+        lu = new DenseTableau<>(size, size, generator);
+        permutation = new int[size];
+        for (int row = 0; row < size; ++row) {
+            permutation[row] = row;
+            final var column = basis[row];
+            for (int i = 0; i < size; ++i) {
+                final var isUnit = column < 0 || column >= initial.getColumns();
+                final var entry = isUnit ? unit(i, row) : initial.get(i, column);
+                lu.set(i, row, entry);
+            }
+        }
+        factorize();
+    }
+
+    int getUpdates() {
+        return etas.size();
+    }
+
+    // solves basis * x = column
+    List<T> ftran(final List<T> column) {
+        final var x = new ArrayList<T>(size);
+        for (int i = 0; i < size; ++i) {
+            x.add(column.get(permutation[i]));
+        }
+        for (int i = 0; i < size; ++i) {
+            final var row = i;
+            x.set(i, subtractProducts(x.get(i), j -> lu.get(row, j), x, 0, i));
+        }
+        for (int i = size - 1; i >= 0; --i) {
+            final var row = i;
+            x.set(i, subtractProducts(x.get(i), j -> lu.get(row, j), x, i + 1, size).divide(lu.get(i, i)));
+        }
+        etas.forEach(eta -> eta.apply(x));
+        return x;
+    }
+
+    // solves y * basis = row
+    List<T> btran(final List<T> row) {
+        final var w = new ArrayList<>(row);
+        for (int k = etas.size() - 1; k >= 0; --k) {
+            etas.get(k).applyTransposed(w, accumulator);
+        }
+        for (int i = 0; i < size; ++i) {
+            final var column = i;
+            w.set(i, subtractProducts(w.get(i), j -> lu.get(j, column), w, 0, i).divide(lu.get(i, i)));
+        }
+        for (int i = size - 1; i >= 0; --i) {
+            final var column = i;
+            w.set(i, subtractProducts(w.get(i), j -> lu.get(j, column), w, i + 1, size));
+        }
+        final var y = new ArrayList<>(Collections.nCopies(size, generator.zero()));
+        for (int i = 0; i < size; ++i) {
+            y.set(permutation[i], w.get(i));
+        }
+        return y;
+    }
+
+    // the entering column has been transformed with ftran already
+    void update(final int pivotRow, final List<T> enteringColumn) {
+        final var pivot = enteringColumn.get(pivotRow);
+        final var eta = new ArrayList<T>(size);
+        for (int i = 0; i < size; ++i) {
+            eta.add(i == pivotRow ? generator.one().divide(pivot) : enteringColumn.get(i).divide(pivot).negate());
+        }
+        etas.add(new Eta<>(pivotRow, eta));
+    }
+
+    // applies the last update to a column that has been transformed before it
+    void updateColumn(final List<T> column) {
+        etas.get(etas.size() - 1).apply(column);
+    }
+
+    List<T> unit(final int row) {
+        final var result = new ArrayList<>(Collections.nCopies(size, generator.zero()));
+        result.set(row, generator.one());
+        return result;
+    }
+
+    private T unit(final int row, final int column) {
+        return row == column ? generator.one() : generator.zero();
+    }
+
+    // gaussian elimination with partial pivoting
+    private void factorize() {
+        for (int k = 0; k < size; ++k) {
+            final var pivotRow = findPivotRow(k);
+            if (lu.get(pivotRow, k).isZero()) {
+                throw new ArithmeticException("Basis is singular!");
+            }
+            swapRows(k, pivotRow);
+            for (int i = k + 1; i < size; ++i) {
+                eliminate(i, k);
+            }
+        }
+    }
+
+    // stores the factor in l and subtracts the pivot row from the row
+    private void eliminate(final int row, final int pivotRow) {
+        if (lu.get(row, pivotRow).isZero()) {
+            return;
+        }
+        final var factor = lu.get(row, pivotRow).divide(lu.get(pivotRow, pivotRow));
+        lu.set(row, pivotRow, factor);
+        for (int column = pivotRow + 1; column < size; ++column) {
+            lu.set(row, column, subtractProduct(lu.get(row, column), factor, lu.get(pivotRow, column)));
+        }
+    }
+
+    // value - sum of factor(j) * entries(j) for j in [from, to)
+    private T subtractProducts(
+            final T value,
+            final IntFunction<T> factor,
+            final List<T> entries,
+            final int from,
+            final int to
+    ) {
+        accumulator.set(generator.zero());
+        for (int j = from; j < to; ++j) {
+            final var entry = entries.get(j);
+            if (!entry.isZero()) {
+                accumulator.addProduct(factor.apply(j), entry);
+            }
+        }
+        return value.subtract(accumulator.snapshot());
+    }
+
+    private int findPivotRow(final int column) {
+        var result = column;
+        for (int i = column + 1; i < size; ++i) {
+            if (abs(lu.get(i, column)).compareTo(abs(lu.get(result, column))) > 0) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private void swapRows(final int row, final int other) {
+        if (row == other) {
+            return;
+        }
+        for (int column = 0; column < size; ++column) {
+            final var entry = lu.get(row, column);
+            lu.set(row, column, lu.get(other, column));
+            lu.set(other, column, entry);
+        }
+        final var index = permutation[row];
+        permutation[row] = permutation[other];
+        permutation[other] = index;
+    }
+
+    private static <T extends CalculableImpl<T>> T subtractProduct(final T value, final T a, final T b) {
+        if (a.isZero() || b.isZero()) {
+            return value;
+        }
+        return value.subtract(a.multiply(b));
+    }
+
+    private static <T extends CalculableImpl<T>> T abs(final T value) {
+        return value.signum() < 0 ? value.negate() : value;
+    }
+
+    // identity matrix with the column of the pivot row replaced
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    private record Eta<T extends CalculableImpl<T>>(int row, List<T> column) {
+        void apply(final List<T> x) {
+            final var pivot = x.get(row);
+            if (pivot.isZero()) {
+                return;
+            }
+            for (int i = 0; i < x.size(); ++i) {
+                final var entry = column.get(i);
+                if (i == row) {
+                    x.set(i, pivot.multiply(entry));
+                } else if (!entry.isZero()) {
+                    x.set(i, x.get(i).add(pivot.multiply(entry)));
+                }
+            }
+        }
+
+        void applyTransposed(final List<T> y, final Accumulator<T> sum) {
+            sum.set(y.get(0).zero());
+            for (int i = 0; i < y.size(); ++i) {
+                if (!column.get(i).isZero() && !y.get(i).isZero()) {
+                    sum.addProduct(y.get(i), column.get(i));
+                }
+            }
+            y.set(row, sum.snapshot());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Phase;
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.TableHistory;
+import com.danielptv.simplex.number.FloatingPoint;
+import com.danielptv.simplex.number.Fraction;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.danielptv.simplex.entity.SpecialSolutionType.INFEASIBLE;
+import static com.danielptv.simplex.entity.SpecialSolutionType.UNBOUNDED;
+
+// solves with floating point numbers first and certifies the final basis once with fractions, exact pivoting is only
+// resumed if the basis turns out not to be optimal
+@SuppressFBWarnings("EI_EXPOSE_REP2")
+public final class CertifiedSimplex implements SimplexEngine<Fraction> {
+    private static final String CERTIFIED_TITLE = "CERTIFIED TABLE";
+    private final TwoPhaseSimplex<Fraction> simplex;
+    private final TableCalcService<Fraction> calcService;
+    private final TableExtensionService<Fraction> extensionService;
+    private final FloatingPoint floatGenerator = new FloatingPoint();
+    @Getter(AccessLevel.PACKAGE)
+    private final TwoPhaseSimplex<FloatingPoint> floatSimplex = TwoPhaseSimplex.of(floatGenerator);
+
+    public CertifiedSimplex(final TwoPhaseSimplex<Fraction> simplex) {
+        this.simplex = simplex;
+        calcService = simplex.getCalcService();
+        extensionService = simplex.getExtensionService();
+    }
+
+    @Override
+    public List<Phase<Fraction>> calc(final SimplexTable<Fraction> simplexTable) {
+        final SimplexTable<FloatingPoint> floatTable;
+        try {
+            final var floatPhases = floatSimplex.calc(toFloatingPoint(simplexTable));
+            floatTable = floatPhases.get(floatPhases.size() - 1).getLastTable();
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return simplex.calc(simplexTable);
+        }
+        return certify(simplexTable, floatTable);
+    }
+
+    // continues exactly from the basis the floating point solve ended on, which does not need to be optimal
+    List<Phase<Fraction>> certify(
+            final SimplexTable<Fraction> simplexTable,
+            final SimplexTable<FloatingPoint> floatTable
+    ) {
+        final List<Phase<Fraction>> result;
+        if (!calcService.isInvalid(simplexTable)) {
+            result = certifyPhase2(simplexTable, rebuild(simplexTable, floatTable), true);
+        } else {
+            // the basis is rebuilt on the extended table, if the floating point solve ended in phase 2, phase 1 ends with
+            // the certified table
+            final var extendedTable = simplex.transformToCanonical(extensionService.buildExtension(simplexTable));
+            result = certifyPhase1(extendedTable, rebuild(extendedTable, floatTable));
+        }
+        return result.isEmpty() ? simplex.calc(simplexTable) : result;
+    }
+
+    @SuppressWarnings("ReturnCount")
+    private List<Phase<Fraction>> certifyPhase1(
+            final SimplexTable<Fraction> extendedTable,
+            final SimplexTable<Fraction> certifiedTable
+    ) {
+        if (certifiedTable == null || !isPrimalFeasible(certifiedTable)) {
+            return List.of();
+        }
+        if (calcService.isInfeasible(certifiedTable)) {
+            return List.of(new Phase<>(List.of(initial(extendedTable), certifiedTable), INFEASIBLE, false));
+        }
+
+        final var phase1 = merge(extendedTable, simplex.resumePhase1(certifiedTable));
+        if (phase1.specialSolutionType() != null) {
+            return List.of(phase1);
+        }
+        final var table = extensionService.removeExtension(phase1.getLastTable());
+        return List.of(phase1, simplex.phase2(table, false));
+    }
+
+    private List<Phase<Fraction>> certifyPhase2(
+            final SimplexTable<Fraction> initialTable,
+            final SimplexTable<Fraction> certifiedTable,
+            final boolean singlePhase
+    ) {
+        if (certifiedTable == null || !isPrimalFeasible(certifiedTable)) {
+            return List.of();
+        }
+        if (!calcService.isOptimal(certifiedTable) && certifiedTable.pivot().value().isInfinite()) {
+            final var tables = List.of(initial(initialTable), certified(certifiedTable));
+            return List.of(new Phase<>(tables, UNBOUNDED, singlePhase));
+        }
+        return List.of(merge(initialTable, simplex.phase2(certifiedTable, singlePhase)));
+    }
+
+    // prepends the initial table to a phase that was resumed from the certified table
+    private Phase<Fraction> merge(final SimplexTable<Fraction> initialTable, final Phase<Fraction> resumed) {
+        final var head = List.of(initial(initialTable), certified(resumed.tables().get(0)));
+        if (resumed.tables() instanceof TableHistory<Fraction> history) {
+            return new Phase<>(history.withHead(head), resumed.specialSolutionType(), resumed.singlePhase());
+        }
+        final var tables = new ArrayList<>(head);
+        tables.addAll(resumed.tables().subList(1, resumed.tables().size()));
+        return new Phase<>(tables, resumed.specialSolutionType(), resumed.singlePhase());
+    }
+
+    // pivots the exact table onto the basis of the floating point table, returns null if the basis is singular
+    private SimplexTable<Fraction> rebuild(
+            final SimplexTable<Fraction> table,
+            final SimplexTable<FloatingPoint> floatTable
+    ) {
+        final var isExtended = table.helperColumns() != 0;
+        final var offset = table.rows() - floatTable.rows();
+        var current = table;
+        for (int row = isExtended ? 2 : 1; row < table.rows(); ++row) {
+            final var column = floatTable.basis()[row - offset];
+            final var pivotRow = findPivotRow(current, row, column);
+            if (pivotRow < 0) {
+                return null;
+            }
+            current = swapRows(current, row, pivotRow);
+            final var pivot = new Pivot<>(column, row, current.tableau().get(row, column));
+            // columns that already are unit vectors, like most slack columns, only need their basis updated
+            current = isUnit(current, row, column)
+                    ? withPivot(current, pivot, calcService.updateBasis(current.basis(), pivot))
+                    : simplex.transform(withPivot(current, pivot, current.basis()));
+        }
+        final var pivot = calcService.setPivot(current.tableau(), isExtended);
+        return certified(withPivot(current, pivot, current.basis()));
+    }
+
+    private boolean isPrimalFeasible(final SimplexTable<Fraction> table) {
+        return IntStream.range(table.helperColumns() != 0 ? 2 : 1, table.rows())
+                .allMatch(row -> table.rHS().get(row).signum() >= 0);
+    }
+
+    private SimplexTable<Fraction> initial(final SimplexTable<Fraction> table) {
+        return new SimplexTable<>(table, "INITIAL TABLE");
+    }
+
+    private SimplexTable<Fraction> certified(final SimplexTable<Fraction> table) {
+        return new SimplexTable<>(table, CERTIFIED_TITLE);
+    }
+
+    private static int findPivotRow(final SimplexTable<Fraction> table, final int row, final int column) {
+        if (column < 0) {
+            return -1;
+        }
+        return IntStream.range(row, table.rows())
+                .filter(i -> !table.tableau().get(i, column).isZero())
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static boolean isUnit(final SimplexTable<Fraction> table, final int row, final int column) {
+        return IntStream.range(0, table.rows())
+                .allMatch(i -> {
+                    final var entry = table.tableau().get(i, column);
+                    return i == row ? entry.equals(entry.one()) : entry.isZero();
+                });
+    }
+
+    private static SimplexTable<Fraction> withPivot(
+            final SimplexTable<Fraction> table,
+            final Pivot<Fraction> pivot,
+            final int[] basis
+    ) {
+        return new SimplexTable<>(
+                table.title(),
+                table.tableau(),
+                pivot,
+                table.variables(),
+                basis,
+                table.helperColumns(),
+                table.bounds()
+        );
+    }
+
+    private static SimplexTable<Fraction> swapRows(final SimplexTable<Fraction> table, final int row, final int other) {
+        if (row == other) {
+            return table;
+        }
+        final var tableau = table.tableau().copy();
+        for (int column = 0; column <= tableau.getColumns(); ++column) {
+            final var entry = tableau.get(row, column);
+            tableau.set(row, column, tableau.get(other, column));
+            tableau.set(other, column, entry);
+        }
+        final var basis = table.basis().clone();
+        basis[row] = table.basis()[other];
+        basis[other] = table.basis()[row];
+        return new SimplexTable<>(
+                table.title(),
+                tableau,
+                table.pivot(),
+                table.variables(),
+                basis,
+                table.helperColumns(),
+                table.bounds()
+        );
+    }
+
+    SimplexTable<FloatingPoint> toFloatingPoint(final SimplexTable<Fraction> table) {
+        final var source = table.tableau();
+        final var tableau = source.create(source.getRows(), source.getColumns(), floatGenerator);
+        for (int row = 0; row < source.getRows(); ++row) {
+            for (int column = 0; column <= source.getColumns(); ++column) {
+                tableau.set(row, column, toFloatingPoint(source.get(row, column)));
+            }
+        }
+        return new SimplexTable<>(
+                table.title(),
+                tableau,
+                floatSimplex.getCalcService().setPivot(tableau, table.helperColumns() != 0),
+                table.variables(),
+                table.basis(),
+                table.helperColumns(),
+                null
+        );
+    }
+
+    private FloatingPoint toFloatingPoint(final Fraction f) {
+        return new FloatingPoint(f.doubleValue(), floatGenerator.getTolerance());
+    }
+}
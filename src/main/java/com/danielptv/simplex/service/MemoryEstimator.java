@@ -0,0 +1,101 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.TableauStorage;
+import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.number.DoubleDouble;
+import com.danielptv.simplex.number.FloatingPoint;
+import com.danielptv.simplex.number.ScaledDecimal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+// estimates the footprint of a table before it is built and picks its storage and the checkpoint interval of the
+// history, sizes are rough values for a 64 bit JVM with compressed references
+@Slf4j
+@RequiredArgsConstructor
+public final class MemoryEstimator<T extends CalculableImpl<T>> {
+    // share of non-zero entries below which the table is stored sparse
+    private static final double SPARSE_DENSITY = 0.25;
+    // share of the maximum heap a single table, the history and a table in direct memory may take
+    private static final double TABLE_SHARE = 0.25;
+    private static final double HISTORY_SHARE = 0.5;
+    private static final double DIRECT_SHARE = 0.5;
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 8;
+    private static final int ITERATIONS_PER_ROW = 2;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ROW_BYTES = 64;
+    private static final int FLOAT_BYTES = 32;
+    private static final int PAIR_BYTES = 40;
+    private static final int OBJECT_BYTES = 64;
+    private final T generator;
+    private final int varCount;
+    private final int constCount;
+    private final long maxMemory = Runtime.getRuntime().maxMemory();
+
+    public Estimate estimate(final List<List<String>> constraints) {
+        final long rows = constCount + 1;
+        final long entries = rows * (varCount + constCount + 1);
+        final var nonZeros = countNonZeros(constraints);
+        final var entryBytes = entryBytes();
+        final var denseBytes = entries * REFERENCE_BYTES + nonZeros * entryBytes;
+        final var sparseBytes = nonZeros * (Integer.BYTES + REFERENCE_BYTES + entryBytes) + rows * ROW_BYTES;
+        final var primitiveBytes = entries * Double.BYTES;
+
+        final var isSparse = nonZeros <= SPARSE_DENSITY * entries;
+        var storage = isSparse ? TableauStorage.SPARSE : TableauStorage.DENSE;
+        var tableBytes = isSparse ? sparseBytes : denseBytes;
+        // floating point numbers are stored as primitives unless they are sparse and fit into the heap, the direct
+        // memory is limited to the size of the heap by default, so very large tables are mapped from a file
+        if (generator instanceof FloatingPoint && (!isSparse || tableBytes > TABLE_SHARE * maxMemory)) {
+            storage = primitiveStorage(primitiveBytes);
+            tableBytes = primitiveBytes;
+        }
+
+        final var estimate = new Estimate(storage, checkpointInterval(rows, tableBytes), tableBytes, nonZeros);
+        log.debug(
+                "{}x{} table with {} non-zero entries takes about {} bytes, using {} storage, checkpoint interval {}",
+                rows,
+                varCount + constCount + 1,
+                nonZeros,
+                tableBytes,
+                storage,
+                estimate.checkpointInterval()
+        );
+        return estimate;
+    }
+
+    private TableauStorage primitiveStorage(final long primitiveBytes) {
+        if (primitiveBytes <= TABLE_SHARE * maxMemory) {
+            return TableauStorage.PRIMITIVE;
+        }
+        return primitiveBytes <= DIRECT_SHARE * maxMemory ? TableauStorage.OFF_HEAP : TableauStorage.MAPPED;
+    }
+
+    // the history holds one table per checkpoint, the interval grows until the expected iterations fit
+    private int checkpointInterval(final long rows, final long tableBytes) {
+        final var iterations = rows * ITERATIONS_PER_ROW;
+        final var budget = Math.max(1, (long) (HISTORY_SHARE * maxMemory));
+        final var interval = Math.max(DEFAULT_CHECKPOINT_INTERVAL, (iterations * tableBytes + budget - 1) / budget);
+        return (int) Math.min(interval, Math.max(DEFAULT_CHECKPOINT_INTERVAL, iterations));
+    }
+
+    // slack columns hold a single one per row, so mostly the share of zero coefficients decides
+    private long countNonZeros(final List<List<String>> constraints) {
+        return constCount + constraints.stream()
+                .flatMap(constraint -> constraint.subList(0, varCount + 1).stream())
+                .filter(value -> !generator.create(value).isZero())
+                .count();
+    }
+
+    private int entryBytes() {
+        if (generator instanceof FloatingPoint) {
+            return FLOAT_BYTES;
+        }
+        return generator instanceof DoubleDouble || generator instanceof ScaledDecimal ? PAIR_BYTES : OBJECT_BYTES;
+    }
+
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    public record Estimate(TableauStorage storage, int checkpointInterval, long tableBytes, long nonZeros) {
+    }
+}
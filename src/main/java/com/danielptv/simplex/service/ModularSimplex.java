@@ -0,0 +1,17 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.number.Fraction;
+
+// pivots in several prime fields and only reconstructs the objective row, the right hand side and the pivot column
+// exactly, the full table is recovered once at the end of each phase
+public final class ModularSimplex extends AbstractPartialSimplex<Fraction> {
+    public ModularSimplex(final TwoPhaseSimplex<Fraction> simplex) {
+        super(simplex);
+    }
+
+    @Override
+    PartialTableau<Fraction> start(final SimplexTable<Fraction> table) {
+        return new ModularTableaux(table);
+    }
+}
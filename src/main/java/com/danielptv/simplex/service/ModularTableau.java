@@ -0,0 +1,70 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.number.Fraction;
+import lombok.Getter;
+
+import java.math.BigInteger;
+
+// image of a simplex table in the prime field Z/pZ, the right hand side is stored as the last column
+final class ModularTableau {
+    @Getter
+    private final long prime;
+    private final long[][] entries;
+    // false once a denominator or a pivot element vanishes modulo the prime
+    @Getter
+    private boolean valid = true;
+
+    ModularTableau(final long prime, final SimplexTable<Fraction> table) {
+        this.prime = prime;
+        final var columns = table.columns();
+        entries = new long[table.rows()][columns + 1];
+        for (int row = 0; row < table.rows() && valid; ++row) {
+            for (int column = 0; column <= columns && valid; ++column) {
+                entries[row][column] = residue(table.tableau().get(row, column));
+            }
+        }
+    }
+
+    long get(final int row, final int column) {
+        return entries[row][column];
+    }
+
+    void pivot(final int row, final int column) {
+        final var pivotRow = entries[row];
+        if (!valid || pivotRow[column] == 0) {
+            valid = false;
+            return;
+        }
+        final var inverse = inverse(pivotRow[column]);
+        for (int i = 0; i < pivotRow.length; ++i) {
+            pivotRow[i] = pivotRow[i] * inverse % prime;
+        }
+        for (int i = 0; i < entries.length; ++i) {
+            if (i != row && entries[i][column] != 0) {
+                eliminate(entries[i], pivotRow, entries[i][column]);
+            }
+        }
+    }
+
+    private void eliminate(final long[] target, final long[] pivotRow, final long factor) {
+        for (int i = 0; i < target.length; ++i) {
+            final var value = target[i] - factor * pivotRow[i] % prime;
+            target[i] = value < 0 ? value + prime : value;
+        }
+    }
+
+    private long residue(final Fraction f) {
+        final var modulus = BigInteger.valueOf(prime);
+        final var denominator = f.getDenominator().mod(modulus).longValue();
+        if (denominator == 0) {
+            valid = false;
+            return 0;
+        }
+        return f.getNumerator().mod(modulus).longValue() * inverse(denominator) % prime;
+    }
+
+    private long inverse(final long value) {
+        return BigInteger.valueOf(value).modInverse(BigInteger.valueOf(prime)).longValue();
+    }
+}
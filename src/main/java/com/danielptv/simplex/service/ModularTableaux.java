@@ -0,0 +1,202 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.number.Fraction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// the same simplex table in several prime fields, exact entries are recovered by CRT and rational reconstruction
+final class ModularTableaux implements PartialTableau<Fraction> {
+    private static final int PRIME_BITS = 30;
+    private static final int CERTAINTY = 64;
+    private static final int INITIAL_PRIMES = 4;
+    private static final int WITNESSES = 2;
+    private final SimplexTable<Fraction> initialTable;
+    private final List<Pivot<Fraction>> pivots = new ArrayList<>();
+    private final List<ModularTableau> tableaux = new ArrayList<>();
+    private final List<ModularTableau> witnesses = new ArrayList<>();
+    // number of primes after which the reconstruction is guaranteed by the Hadamard bound
+    private final int maxPrimes;
+    private long candidate = Integer.MAX_VALUE + 2L;
+    private BigInteger modulus;
+    private BigInteger bound;
+    private List<BigInteger> coefficients;
+
+    ModularTableaux(final SimplexTable<Fraction> table) {
+        initialTable = table;
+        maxPrimes = primeCount(table);
+        extend(Math.min(INITIAL_PRIMES, maxPrimes));
+        IntStream.range(0, WITNESSES).forEach(i -> witnesses.add(nextTableau()));
+    }
+
+    @Override
+    public void pivot(final Pivot<Fraction> pivot) {
+        pivots.add(pivot);
+        tableaux.parallelStream().forEach(tableau -> tableau.pivot(pivot.row(), pivot.column()));
+        witnesses.forEach(witness -> witness.pivot(pivot.row(), pivot.column()));
+
+        // primes dividing a pivot element are replaced by fresh ones
+        final var invalid = tableaux.stream().filter(tableau -> !tableau.isValid()).count();
+        if (invalid != 0) {
+            tableaux.removeIf(tableau -> !tableau.isValid());
+            extend((int) invalid);
+        }
+        witnesses.replaceAll(witness -> witness.isValid() ? witness : nextTableau());
+    }
+
+    Fraction get(final int row, final int column) {
+        var value = reconstruct(row, column);
+        // below the Hadamard bound a reconstruction is only accepted if it agrees with the witness primes
+        while (value == null || tableaux.size() < maxPrimes && !isWitnessed(value, row, column)) {
+            final var size = tableaux.size();
+            extend(size < maxPrimes ? Math.min(size, maxPrimes - size) : size);
+            value = reconstruct(row, column);
+        }
+        return value;
+    }
+
+    private Row<Fraction> row(final int row) {
+        final var entries = IntStream.range(0, initialTable.columns())
+                .mapToObj(column -> get(row, column))
+                .toList();
+        return new Row<>(entries, initialTable.tableau().getGenerator());
+    }
+
+    @Override
+    public Row<Fraction> objective() {
+        return row(0);
+    }
+
+    @Override
+    public List<Fraction> column(final int column) {
+        return IntStream.range(0, initialTable.rows())
+                .mapToObj(row -> get(row, column))
+                .toList();
+    }
+
+    @Override
+    public List<Fraction> rHS() {
+        return column(initialTable.columns());
+    }
+
+    @Override
+    public Tableau<Fraction> tableau() {
+        final var lHS = IntStream.range(0, initialTable.rows())
+                .mapToObj(this::row)
+                .toList();
+        return Tableau.of(lHS, rHS());
+    }
+
+    private void extend(final int count) {
+        var missing = count;
+        while (missing > 0) {
+            final var added = IntStream.range(0, missing)
+                    .mapToObj(i -> nextPrime())
+                    .toList()
+                    .parallelStream()
+                    .map(this::replay)
+                    .filter(ModularTableau::isValid)
+                    .toList();
+            tableaux.addAll(added);
+            missing -= added.size();
+        }
+
+        modulus = tableaux.stream()
+                .map(tableau -> BigInteger.valueOf(tableau.getPrime()))
+                .reduce(BigInteger.ONE, BigInteger::multiply);
+        bound = modulus.shiftRight(1).sqrt();
+        coefficients = tableaux.stream()
+                .map(tableau -> {
+                    final var prime = BigInteger.valueOf(tableau.getPrime());
+                    final var cofactor = modulus.divide(prime);
+                    return cofactor.multiply(cofactor.modInverse(prime));
+                })
+                .toList();
+    }
+
+    private boolean isWitnessed(final Fraction value, final int row, final int column) {
+        return witnesses.stream().allMatch(witness -> {
+            final var prime = BigInteger.valueOf(witness.getPrime());
+            final var denominator = value.getDenominator().mod(prime);
+            if (denominator.signum() == 0) {
+                return false;
+            }
+            final var residue = value.getNumerator().multiply(denominator.modInverse(prime)).mod(prime);
+            return residue.longValue() == witness.get(row, column);
+        });
+    }
+
+    private ModularTableau nextTableau() {
+        var tableau = replay(nextPrime());
+        while (!tableau.isValid()) {
+            tableau = replay(nextPrime());
+        }
+        return tableau;
+    }
+
+    private ModularTableau replay(final long prime) {
+        final var tableau = new ModularTableau(prime, initialTable);
+        pivots.forEach(pivot -> tableau.pivot(pivot.row(), pivot.column()));
+        return tableau;
+    }
+
+    private long nextPrime() {
+        do {
+            candidate -= 2;
+        } while (!BigInteger.valueOf(candidate).isProbablePrime(CERTAINTY));
+        return candidate;
+    }
+
+    private Fraction reconstruct(final int row, final int column) {
+        var residue = BigInteger.ZERO;
+        for (int i = 0; i < tableaux.size(); ++i) {
+            final var value = BigInteger.valueOf(tableaux.get(i).get(row, column));
+            residue = residue.add(coefficients.get(i).multiply(value));
+        }
+
+        // the first remainder of the euclidean algorithm below the bound yields the numerator
+        var r0 = modulus;
+        var r1 = residue.mod(modulus);
+        var t0 = BigInteger.ZERO;
+        var t1 = BigInteger.ONE;
+        while (r1.compareTo(bound) > 0) {
+            final var quotient = r0.divide(r1);
+            final var r = r0.subtract(quotient.multiply(r1));
+            r0 = r1;
+            r1 = r;
+            final var t = t0.subtract(quotient.multiply(t1));
+            t0 = t1;
+            t1 = t;
+        }
+        if (t1.abs().compareTo(bound) > 0 || !r1.gcd(t1).equals(BigInteger.ONE)) {
+            return null;
+        }
+        return new Fraction(r1, t1);
+    }
+
+    // numerators and denominators of the tableau are minors of the table with integer rows, so they are bounded by
+    // Hadamard's inequality times the largest row scale, the modulus has to exceed twice the square of that bound
+    private static int primeCount(final SimplexTable<Fraction> table) {
+        var boundBits = 0L;
+        var scaleBits = 0L;
+        for (int row = 0; row < table.rows(); ++row) {
+            final var entries = new ArrayList<>(table.tableau().row(row));
+            entries.add(table.tableau().getRhs(row));
+            final var scale = entries.stream()
+                    .map(Fraction::getDenominator)
+                    .reduce(BigInteger.ONE, (a, b) -> a.divide(a.gcd(b)).multiply(b));
+            final var norm = entries.stream()
+                    .map(e -> e.getNumerator().multiply(scale.divide(e.getDenominator())).pow(2))
+                    .reduce(BigInteger.ZERO, BigInteger::add);
+            boundBits += (norm.bitLength() + 1) / 2;
+            scaleBits = Math.max(scaleBits, scale.bitLength());
+        }
+        return (int) ((2 * (boundBits + scaleBits) + 2) / PRIME_BITS + 1);
+    }
+}
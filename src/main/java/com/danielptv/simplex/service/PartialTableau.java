@@ -0,0 +1,21 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.number.CalculableImpl;
+
+import java.util.List;
+
+// the parts of the tables of a phase that are calculated in every iteration, the full tableau is only recovered once
+interface PartialTableau<T extends CalculableImpl<T>> {
+    void pivot(Pivot<T> pivot);
+
+    Row<T> objective();
+
+    List<T> rHS();
+
+    List<T> column(int column);
+
+    Tableau<T> tableau();
+}
@@ -0,0 +1,17 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.number.CalculableImpl;
+
+// keeps the initial table of each phase unchanged and only factorizes its basis, every iteration calculates the
+// criterion line, the right hand side and the pivot column, the full table is recovered once at the end of each phase
+public final class RevisedSimplex<T extends CalculableImpl<T>> extends AbstractPartialSimplex<T> {
+    public RevisedSimplex(final TwoPhaseSimplex<T> simplex) {
+        super(simplex);
+    }
+
+    @Override
+    PartialTableau<T> start(final SimplexTable<T> table) {
+        return new RevisedTableau<>(table);
+    }
+}
@@ -0,0 +1,119 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.number.Accumulator;
+import com.danielptv.simplex.number.CalculableImpl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// the initial table of a phase with a factorization of the current basis, the columns of the initial table are kept
+// as their non-zero entries, so pricing and recovering the tableau take time proportional to the non-zero entries
+final class RevisedTableau<T extends CalculableImpl<T>> implements PartialTableau<T> {
+    // the basis is factorized again after this many eta matrices, so solving does not get slower with every iteration
+    private static final int REFACTORIZATION_INTERVAL = 32;
+    private final Tableau<T> initial;
+    // the last column is the right-hand side
+    private final List<SparseColumn<T>> columns;
+    private final Accumulator<T> accumulator;
+    private int[] basis;
+    private BasisFactorization<T> factorization;
+    private List<T> rHS;
+
+    RevisedTableau(final SimplexTable<T> table) {
+        initial = table.tableau();
+        columns = IntStream.rangeClosed(0, initial.getColumns())
+                .mapToObj(column -> SparseColumn.of(initial, column))
+                .toList();
+        accumulator = initial.getGenerator().accumulator();
+        basis = table.basis();
+        factorization = new BasisFactorization<>(initial, basis);
+        rHS = table.rHS();
+    }
+
+    @Override
+    public void pivot(final Pivot<T> pivot) {
+        factorization.update(pivot.row(), column(pivot.column()));
+        basis = basis.clone();
+        basis[pivot.row()] = pivot.column();
+
+        rHS = new ArrayList<>(rHS);
+        factorization.updateColumn(rHS);
+        if (factorization.getUpdates() >= REFACTORIZATION_INTERVAL) {
+            factorization = new BasisFactorization<>(initial, basis);
+        }
+    }
+
+    // the first row of the inverse basis prices every column of the initial table
+    @Override
+    public Row<T> objective() {
+        final var prices = factorization.btran(factorization.unit(0));
+        final var entries = new ArrayList<T>(initial.getColumns());
+        for (int column = 0; column < initial.getColumns(); ++column) {
+            entries.add(columns.get(column).multiply(prices, accumulator));
+        }
+        return new Row<>(entries, initial.getGenerator());
+    }
+
+    @Override
+    public List<T> rHS() {
+        return rHS;
+    }
+
+    @Override
+    public List<T> column(final int column) {
+        return factorization.ftran(columns.get(column).toList(initial.getRows(), initial.getGenerator()));
+    }
+
+    @Override
+    public Tableau<T> tableau() {
+        final var result = initial.create(initial.getRows(), initial.getColumns(), initial.getGenerator());
+        for (int row = 0; row < initial.getRows(); ++row) {
+            final var inverseRow = factorization.btran(factorization.unit(row));
+            for (int column = 0; column <= initial.getColumns(); ++column) {
+                result.set(row, column, columns.get(column).multiply(inverseRow, accumulator));
+            }
+        }
+        return result;
+    }
+
+    // non-zero entries of a column with their rows
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    private record SparseColumn<T extends CalculableImpl<T>>(int[] rows, List<T> entries) {
+        static <T extends CalculableImpl<T>> SparseColumn<T> of(final Tableau<T> tableau, final int column) {
+            final var entries = new ArrayList<T>();
+            final var rows = IntStream.range(0, tableau.getRows())
+                    .filter(row -> !tableau.get(row, column).isZero())
+                    .toArray();
+            for (final var row : rows) {
+                entries.add(tableau.get(row, column));
+            }
+            return new SparseColumn<>(rows, entries);
+        }
+
+        // sum of the products of the row and the column
+        T multiply(final List<T> row, final Accumulator<T> sum) {
+            sum.set(row.get(0).zero());
+            for (int i = 0; i < rows.length; ++i) {
+                final var value = row.get(rows[i]);
+                if (!value.isZero()) {
+                    sum.addProduct(value, entries.get(i));
+                }
+            }
+            return sum.snapshot();
+        }
+
+        List<T> toList(final int size, final T generator) {
+            final var result = new ArrayList<>(Collections.nCopies(size, generator.zero()));
+            for (int i = 0; i < rows.length; ++i) {
+                result.set(rows[i], entries.get(i));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Phase;
+import com.danielptv.simplex.entity.SimplexResult;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.number.CalculableImpl;
+
+import java.util.List;
+
+public interface SimplexEngine<T extends CalculableImpl<T>> {
+    List<Phase<T>> calc(SimplexTable<T> simplexTable);
+
+    // engines that keep intermediate tables should only keep the current one
+    default SimplexResult<T> solve(final SimplexTable<T> simplexTable) {
+        final var phases = calc(simplexTable);
+        final var lastPhase = phases.get(phases.size() - 1);
+        return SimplexResult.of(lastPhase.getLastTable(), lastPhase.specialSolutionType());
+    }
+}
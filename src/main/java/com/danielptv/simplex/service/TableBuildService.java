@@ -1,16 +1,20 @@
 package com.danielptv.simplex.service;
 
-import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.Bounds;
 import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.entity.TableauStorage;
+import com.danielptv.simplex.entity.VariableKind;
 import com.danielptv.simplex.number.CalculableImpl;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
+import static com.danielptv.simplex.number.InfinityType.POSITIVE;
+
 @RequiredArgsConstructor
 @SuppressFBWarnings("EI_EXPOSE_REP2")
 public final class TableBuildService<T extends CalculableImpl<T>> {
@@ -21,138 +25,172 @@ public final class TableBuildService<T extends CalculableImpl<T>> {
     private final TableCalcService<T> tableCalcService;
 
     public SimplexTable<T> build(final List<String> objectiveFunction, final List<List<String>> constraints) {
-        final var table = buildTable(objectiveFunction, constraints);
-        final var rHS = buildRHS(new ArrayList<>(table));
-        final var lHS = buildLHS(new ArrayList<>(table));
-        final var columnHeaders = buildColumnHeaders();
-        final var rowHeadersTemp = buildRowHeaders(tableCalcService.getNegativeRows(rHS));
-        final var rowHeaders = enumerateRowHeaders(rowHeadersTemp, columnHeaders);
-        final var pivot = tableCalcService.setPivot(lHS, rHS, false);
-
-        return new SimplexTable<>(" ", lHS, rHS, pivot, columnHeaders, rowHeaders, 0);
+        final var estimate = new MemoryEstimator<>(generator, varCount, constCount).estimate(constraints);
+        return build(objectiveFunction, constraints, estimate.storage());
     }
 
-    List<Row<T>> buildLHS(final ArrayList<ArrayList<T>> table) {
-        final var rows = new ArrayList<>(table.stream()
-                .map(row -> {
-                    row.remove(row.size() - 1);
-                    return new Row<>(row, generator);
-                })
-                .toList());
-        if (minimize) {
-            rows.set(0, rows.get(0).invertRow());
-            return rows;
-        }
-        return rows;
+    public SimplexTable<T> build(
+            final List<String> objectiveFunction,
+            final List<List<String>> constraints,
+            final TableauStorage storage
+    ) {
+        return build(objectiveFunction, constraints, List.of(), storage);
     }
 
-    List<T> buildRHS(final ArrayList<ArrayList<T>> table) {
-        return table.stream()
-                .map(row -> {
-                    final var size = row.size();
-                    return row.get(size - 1);
+    // the bounds are constraints on a single variable that are not part of the table
+    public SimplexTable<T> build(
+            final List<String> objectiveFunction,
+            final List<List<String>> constraints,
+            final List<List<String>> bounds,
+            final TableauStorage storage
+    ) {
+        final var tableau = storage.create(constCount + 1, varCount + constCount, generator);
+        buildTable(objectiveFunction, constraints, tableau);
+        final var variables = buildVariables();
+        final var tableBounds = buildBounds(bounds, tableau);
+        final var basis = buildBasis(getHelperRows(tableau));
+        final var pivot = tableCalcService.setPivot(tableau, false, basis, tableBounds);
+
+        return new SimplexTable<>(" ", tableau, pivot, variables, basis, 0, tableBounds);
+    }
+
+    // constraints on a single variable can be kept as bounds, unless the bounds of the variable contradict each other,
+    // then they are kept as rows of the table, so phase 1 finds the problem to be infeasible
+    public static <T extends CalculableImpl<T>> List<List<String>> getBounds(
+            final List<List<String>> constraints,
+            final T generator
+    ) {
+        final var candidates = constraints.stream()
+                .filter(constraint -> boundColumn(constraint, generator) >= 0)
+                .toList();
+        return candidates.stream()
+                .filter(constraint -> {
+                    final var column = boundColumn(constraint, generator);
+                    return bound(candidates, column, generator, false)
+                            .compareTo(bound(candidates, column, generator, true)) <= 0;
                 })
                 .toList();
     }
 
-    List<String> buildColumnHeaders() {
-        return IntStream.range(1, varCount + constCount + 2)
-                .mapToObj(i -> {
-                    if (i < varCount + 1) {
-                        return "x" + i;
-                    }
-                    if (i == varCount + constCount + 1) {
-                        return "f";
-                    }
-                    return "s" + (i - varCount);
-                })
+    List<VariableKind> buildVariables() {
+        return IntStream.range(0, varCount + constCount)
+                .mapToObj(i -> i < varCount ? VariableKind.STRUCTURAL : VariableKind.SLACK)
                 .toList();
     }
 
-    List<String> buildRowHeaders(final List<Integer> negativeRows) {
+    // rows with a negative right-hand side and equations start with the helper variable that is added in phase 1
+    int[] buildBasis(final List<Integer> helperRows) {
         return IntStream.range(0, constCount + 1)
-                .mapToObj(i -> {
+                .map(i -> {
                     if (i == 0) {
-                        return "z";
+                        return -1;
                     }
-                    if (negativeRows.contains(i)) {
-                        return "h" + (negativeRows.indexOf(i) + 1);
+                    if (helperRows.contains(i)) {
+                        return varCount + constCount + helperRows.indexOf(i);
                     }
-                    return "s" + i;
+                    return varCount + i - 1;
                 })
+                .toArray();
+    }
+
+    // the lower bounds are subtracted from the variables, so every variable starts at its lower bound
+    Bounds<T> buildBounds(final List<List<String>> bounds, final Tableau<T> tableau) {
+        if (bounds.isEmpty()) {
+            return null;
+        }
+        final var lower = new ArrayList<T>();
+        final var upper = new ArrayList<T>();
+        for (int column = 0; column < tableau.getColumns(); ++column) {
+            final var lowerBound = bound(bounds, column, generator, false);
+            final var upperBound = bound(bounds, column, generator, true);
+            lower.add(lowerBound);
+            upper.add(upperBound.isInfinite() ? upperBound : upperBound.subtract(lowerBound));
+            if (!lowerBound.isZero()) {
+                shift(tableau, column, lowerBound);
+            }
+        }
+        return new Bounds<>(lower, upper, new boolean[tableau.getColumns()]);
+    }
+
+    // equations have no slack variable, so they need a helper variable whatever the sign of their right-hand side
+    List<Integer> getHelperRows(final Tableau<T> tableau) {
+        return IntStream.rangeClosed(1, constCount)
+                .filter(row -> tableau.getRhs(row).signum() < 0 || tableau.get(row, varCount + row - 1).isZero())
+                .boxed()
                 .toList();
     }
 
-    @SuppressWarnings({"MagicNumber", "CyclomaticComplexity", "NPathComplexity"})
-    ArrayList<ArrayList<T>> buildTable(final List<String> objectiveFunction, final List<List<String>> constraints) {
-        final var minusOne = generator.create("-1");
-        final var input = new ArrayList<List<String>>();
-        final var obj = new ArrayList<>(objectiveFunction);
-        obj.add("0");
-        input.add(obj);
-        input.addAll(constraints);
-
-        // create rows
-        final var table = new ArrayList<>(input.stream()
-                .map(x -> new ArrayList<T>())
-                .toList());
-
-        // fill with zeroes
-        for (var row : table) {
-            for (int i = 0; i < input.size() - 1 + input.get(0).size(); ++i) {
-                row.add(generator.create("0"));
+    private static <T extends CalculableImpl<T>> void shift(final Tableau<T> tableau, final int column, final T lower) {
+        for (int row = 0; row < tableau.getRows(); ++row) {
+            final var entry = tableau.get(row, column);
+            tableau.setRhs(row, tableau.getRhs(row).subtract(entry.multiply(lower)));
+        }
+    }
+
+    // column of the only variable of a constraint, -1 if there are several
+    private static <T extends CalculableImpl<T>> int boundColumn(final List<String> constraint, final T generator) {
+        final var columns = IntStream.range(0, constraint.size() - 2)
+                .filter(column -> !generator.create(constraint.get(column)).isZero())
+                .toArray();
+        return columns.length == 1 ? columns[0] : -1;
+    }
+
+    // tightest bound of a variable, variables are not negative and not bounded above by default
+    private static <T extends CalculableImpl<T>> T bound(
+            final List<List<String>> bounds,
+            final int column,
+            final T generator,
+            final boolean isUpper
+    ) {
+        var result = isUpper ? generator.toInfinity(POSITIVE) : generator.zero();
+        for (final var constraint : bounds) {
+            final var relationSign = constraint.get(constraint.size() - 1);
+            final var factor = column < constraint.size() - 2
+                    ? generator.create(constraint.get(column))
+                    : generator.zero();
+            // dividing by a negative factor turns the relation sign
+            final var isBound = relationSign.equals("=") || (relationSign.equals("<") == factor.signum() > 0) == isUpper;
+            if (!factor.isZero() && isBound) {
+                final var value = generator.create(constraint.get(constraint.size() - 2)).divide(factor);
+                result = (value.compareTo(result) < 0) == isUpper ? value : result;
+            }
+        }
+        return result;
+    }
+
+    // entries that are zero are not set, so sparse tableaus never hold the zeros of the slack unit matrix
+    void buildTable(
+            final List<String> objectiveFunction,
+            final List<List<String>> constraints,
+            final Tableau<T> tableau
+    ) {
+        // objective function values
+        for (int column = 0; column < varCount; ++column) {
+            tableau.set(0, column, generator.create(objectiveFunction.get(column)).negate());
+        }
+        if (minimize) {
+            for (int column = 0; column < tableau.getColumns(); ++column) {
+                tableau.set(0, column, tableau.get(0, column).negate());
             }
         }
 
-        // feed values
-        for (int row = 0; row < input.size(); ++row) {
-
-            final var relationSign = input.get(row).get(input.get(row).size() - 1);
-
-            for (int column = 0; column < input.get(1).size() - 2; ++column) {
-                // objective function values
-                final var currentVal = input.get(row).get(column);
-                if (row == 0) {
-                    table.get(0).set(column, generator.create(input.get(0).get(column)).multiply(minusOne));
-                } else if (relationSign.equals(">") || relationSign.equals("=")) {
-                    table.get(row).set(column, generator.create(currentVal).multiply(minusOne));
-                } else {
-                    table.get(row).set(column, generator.create(currentVal));
-                }
+        for (int row = 1; row <= constCount; ++row) {
+            final var constraint = constraints.get(row - 1);
+            final var relationSign = constraint.get(constraint.size() - 1);
+            final var isInverted = relationSign.equals(">") || relationSign.equals("=");
+            for (int column = 0; column < varCount; ++column) {
+                final var value = generator.create(constraint.get(column));
+                tableau.set(row, column, isInverted ? value.negate() : value);
             }
 
             // unit matrix
-            for (int i = input.get(1).size() - 2; i < input.get(1).size() + input.size() - 1; ++i) {
-                if (row == i - input.get(1).size() + 3 && !relationSign.equals("=")) {
-                    table.get(row).set(i, generator.create("1"));
-                }
+            if (!relationSign.equals("=")) {
+                tableau.set(row, varCount + row - 1, generator.one());
             }
 
             // right side values
-            var rHS = generator.create(input.get(row).get(input.get(row).size() - 2));
-            if (row == 0) {
-                rHS = generator.create("0");
-            }
-            if (relationSign.equals(">") || relationSign.equals("=")) {
-                rHS = rHS.multiply(generator.create("-1"));
-            }
-            table.get(row).set(table.get(row).size() - 1, rHS);
+            final var rHS = generator.create(constraint.get(constraint.size() - 2));
+            tableau.setRhs(row, isInverted ? rHS.negate() : rHS);
         }
-        return table;
-    }
-
-    List<String> enumerateRowHeaders(final List<String> rowHeaders, final List<String> columnHeaders) {
-        final var count = new AtomicInteger();
-        return rowHeaders.stream()
-                .map(e -> {
-                    if (e.contains("h")) {
-                        return e + "[" + (columnHeaders.size() + count.getAndIncrement()) + "]";
-                    }
-                    if (!columnHeaders.contains(e)) {
-                        return e;
-                    }
-                    return e + "[" + (columnHeaders.indexOf(e) + 1) + "]";
-                })
-                .toList();
     }
 }
@@ -1,12 +1,14 @@
 package com.danielptv.simplex.service;
 
+import com.danielptv.simplex.entity.Bounds;
 import com.danielptv.simplex.entity.Pivot;
-import com.danielptv.simplex.entity.Row;
 import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.entity.VariableKind;
 import com.danielptv.simplex.number.CalculableImpl;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -17,37 +19,25 @@ import static com.danielptv.simplex.number.InfinityType.POSITIVE;
 public final class TableCalcService<T extends CalculableImpl<T>> {
     private final T generator;
 
-    List<String> updateRowHeaders(
-            final List<String> columnHeaders,
-            final List<String> rowHeaders,
-            final Pivot<T> pivot
-    ) {
-        final var result = new ArrayList<>(rowHeaders);
-        result.set(pivot.row(), columnHeaders.get(pivot.column()) + "[" + (pivot.column() + 1) + "]");
+    int[] updateBasis(final int[] basis, final Pivot<T> pivot) {
+        final var result = basis.clone();
+        result[pivot.row()] = pivot.column();
         return result;
     }
 
-    List<Integer> getNegativeRows(final List<T> rHS) {
-        final var indices = new ArrayList<Integer>();
-        IntStream.range(0, rHS.size())
-                .forEach(e -> {
-                    if (rHS.get(e).compareTo(generator.create("0")) < 0) {
-                        indices.add(e);
-                    }
-                });
-        return indices;
+    Pivot<T> setPivot(final Tableau<T> tableau, final boolean isExtended) {
+        final int column = tableau.getMinIndex(0);
+        return setPivot(column, tableau.column(column), tableau.rHS(), isExtended);
     }
 
-    Pivot<T> setPivot(final List<Row<T>> lHS, final List<T> rHS, final boolean isExtended) {
-        final int column = lHS.get(0).getMinIndex();
-
+    Pivot<T> setPivot(final int column, final List<T> pivotColumn, final List<T> rHS, final boolean isExtended) {
         final var pivots = IntStream.range(0, rHS.size())
                 .mapToObj(i -> {
-                    final var divisor = lHS.get(i).getElement(column);
+                    final var divisor = pivotColumn.get(i);
                     if (i == 0 || isExtended && i == 1) {
                         return generator.toInfinity(POSITIVE);
                     }
-                    if (divisor.compareTo(generator.create("0")) <= 0) {
+                    if (divisor.signum() <= 0) {
                         return generator.toInfinity(POSITIVE);
                     }
                     return rHS.get(i).divide(divisor);
@@ -61,18 +51,57 @@ public final class TableCalcService<T extends CalculableImpl<T>> {
             return new Pivot<>(column, row, value);
         }
 
-        return new Pivot<>(column, row, lHS.get(row).getElement(column));
+        return new Pivot<>(column, row, pivotColumn.get(row));
     }
 
+    // the entering variable may reach its own upper bound first, then the pivot has no row, a basic variable that
+    // reaches its upper bound first is marked with the negative entry of its row as pivot value
+    Pivot<T> setPivot(final Tableau<T> tableau, final boolean isExtended, final int[] basis, final Bounds<T> bounds) {
+        if (bounds == null) {
+            return setPivot(tableau, isExtended);
+        }
+        final int column = tableau.getMinIndex(0);
+        final var pivotColumn = tableau.column(column);
+        final var rHS = tableau.rHS();
+        var result = setPivot(column, pivotColumn, rHS, isExtended);
+        var step = result.value().isInfinite() ? result.value() : rHS.get(result.row()).divide(result.value());
+        for (int row = isExtended ? 2 : 1; row < rHS.size(); ++row) {
+            final var entry = pivotColumn.get(row);
+            final var upper = upper(tableau, basis[row], bounds);
+            if (entry.signum() < 0 && !upper.isInfinite()) {
+                final var rowStep = upper.subtract(rHS.get(row)).divide(entry.negate());
+                if (rowStep.compareTo(step) < 0) {
+                    step = rowStep;
+                    result = new Pivot<>(column, row, entry);
+                }
+            }
+        }
+        if (bounds.upper(column).compareTo(step) < 0) {
+            return new Pivot<>(column, -1, bounds.upper(column));
+        }
+        return result;
+    }
+
+    // helper variables that are still basic after phase 1 are not part of the table anymore and have to stay zero
+    T upper(final Tableau<T> tableau, final int column, final Bounds<T> bounds) {
+        return column < tableau.getColumns() ? bounds.upper(column) : generator.zero();
+    }
+
+    // the initial table is invalid as well if a row starts with a helper variable
     boolean isInvalid(final SimplexTable<T> table) {
         final var isExtended = table.helperColumns() != 0;
-        if (isExtended && !table.rHS().get(0).equals(generator.create("0"))) {
+        return isInvalid(table.tableau().rHS(), isExtended) ||
+                !isExtended && Arrays.stream(table.basis()).anyMatch(column -> column >= table.columns());
+    }
+
+    boolean isInvalid(final List<T> rHS, final boolean isExtended) {
+        if (isExtended && !rHS.get(0).isZero()) {
             return true;
         }
 
-        final var size = table.rHS().size();
+        final var size = rHS.size();
         for (int row = isExtended ? 2 : 1; row < size; ++row) {
-            final var isNegative = table.rHS().get(row).compareTo(generator.create("0")) < 0;
+            final var isNegative = rHS.get(row).signum() < 0;
             if (isNegative) {
                 return true;
             }
@@ -81,7 +110,12 @@ public final class TableCalcService<T extends CalculableImpl<T>> {
     }
 
     boolean isOptimal(final SimplexTable<T> table) {
-        return table.lHS().get(0).isPositive();
+        return table.tableau().isPositive(0);
+    }
+
+    // phase 1 cannot lower the criterion line anymore, but helper variables are left
+    boolean isInfeasible(final SimplexTable<T> table) {
+        return (isOptimal(table) || table.pivot().value().isInfinite()) && !table.rHS().get(0).isZero();
     }
 
     boolean isDegenerate(final SimplexTable<T> table) {
@@ -89,13 +123,15 @@ public final class TableCalcService<T extends CalculableImpl<T>> {
             throw new IllegalArgumentException();
         }
 
-        for (int i = 0; i < table.columnHeaders().size(); ++i) {
-            final var variable = table.columnHeaders().get(i);
-            if (variable.contains("s") && !table.rowHeaders().contains(variable)) {
-                final var index = table.columnHeaders().indexOf(variable);
-                if (!table.lHS().get(0).getElement(index).equals(generator.create("0"))) {
-                    return false;
-                }
+        // variables at a bound that is not a row of the table stand in for the slack variable of that row
+        final var variables = table.variables();
+        final var bounds = table.bounds();
+        for (int column = 0; column < variables.size(); ++column) {
+            final var isAtBound = bounds != null && column < bounds.lower().size() &&
+                    (bounds.isComplemented(column) || !bounds.lower().get(column).isZero());
+            final var isSlack = variables.get(column) == VariableKind.SLACK || isAtBound;
+            if (isSlack && !table.tableau().get(0, column).isZero()) {
+                return false;
             }
         }
         return true;
@@ -1,13 +1,16 @@
 package com.danielptv.simplex.service;
 
-import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.ExtendedTableau;
 import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.entity.VariableKind;
 import com.danielptv.simplex.number.CalculableImpl;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.stream.IntStream;
 
 @RequiredArgsConstructor
@@ -21,118 +24,77 @@ public final class TableExtensionService<T extends CalculableImpl<T>> {
             throw new UnsupportedOperationException("Table is already extended!");
         }
 
-        final var negativeRows = calcService.getNegativeRows(table.rHS());
-        var lHS = invertNegativeRowsLHS(table.lHS(), negativeRows);
-        var rHS = invertNegativeRowsRHS(table.rHS(), negativeRows);
-        lHS = addCriterionLineLHS(lHS);
-        rHS = addCriterionLineRHS(rHS);
-        lHS = addHelperColumns(negativeRows, lHS);
-        final var extensionSize = negativeRows.size();
-        final var columnHeaders = new ArrayList<>(table.columnHeaders());
-        IntStream.range(1, extensionSize + 1)
-                .forEach(i -> {
-                    final var size = columnHeaders.size();
-                    columnHeaders.add(size - 1, "h" + i);
-                });
-        final var rowHeaders = new ArrayList<>(table.rowHeaders());
-        rowHeaders.add(0, "z'");
-        final var pivot = calcService.setPivot(lHS, rHS, true);
+        final var source = table.tableau();
+        // rows that start with a helper variable have it in the basis already
+        final var helperRows = IntStream.range(1, source.getRows())
+                .filter(row -> table.basis()[row] >= source.getColumns())
+                .toArray();
+        final var extensionSize = helperRows.length;
+        // the rows of the base tableau are shared until they are written
+        final var base = source.copy();
+        // the objective row is never negative, its right-hand side is the value of the objective function
+        IntStream.range(1, source.getRows())
+                .filter(row -> source.getRhs(row).signum() < 0)
+                .forEach(base::negateRow);
+        final var tableau = new ExtendedTableau<>(base, extensionSize);
+
+        // the criterion line sums up the helper variables
+        for (final var row : helperRows) {
+            tableau.set(0, table.basis()[row], generator.one());
+            tableau.set(row + 1, table.basis()[row], generator.one());
+        }
+
+        final var variables = new ArrayList<>(table.variables());
+        variables.addAll(Collections.nCopies(extensionSize, VariableKind.ARTIFICIAL));
+        final var basis = new int[table.basis().length + 1];
+        basis[0] = -1;
+        System.arraycopy(table.basis(), 0, basis, 1, table.basis().length);
+        final var pivot = calcService.setPivot(tableau, true, basis, table.bounds());
 
         return new SimplexTable<>(
                 table.title(),
-                lHS,
-                rHS,
+                tableau,
                 pivot,
-                columnHeaders,
-                rowHeaders,
-                extensionSize);
+                variables,
+                basis,
+                extensionSize,
+                table.bounds());
     }
 
     SimplexTable<T> removeExtension(final SimplexTable<T> table) {
         if (table.helperColumns() == 0) {
             throw new UnsupportedOperationException("Table is not extended!");
         }
-        final var lHS = new ArrayList<>(removeHelperColumns(table.helperColumns(), table.lHS()));
-        lHS.remove(0);
-        final var rHS = new ArrayList<>(table.rHS());
-        rHS.remove(0);
-        final var pivot = calcService.setPivot(lHS, rHS, false);
+        final var tableau = dropExtension(table.tableau(), table.helperColumns());
 
-        final var columnHeaders = new ArrayList<>(table.columnHeaders());
-        IntStream.range(0, table.helperColumns())
-                .forEach(i -> {
-                    final var size = columnHeaders.size();
-                    columnHeaders.remove(size - 2);
-                });
-
-        final var rowHeaders = new ArrayList<>(table.rowHeaders());
-        rowHeaders.remove(0);
+        // helper variables that are still basic keep their column index past the last column
+        final var variables = table.variables().subList(0, tableau.getColumns());
+        final var basis = Arrays.copyOfRange(table.basis(), 1, table.basis().length);
+        final var pivot = calcService.setPivot(tableau, false, basis, table.bounds());
 
         return new SimplexTable<>(
                 table.title(),
-                lHS,
-                rHS,
+                tableau,
                 pivot,
-                columnHeaders,
-                rowHeaders,
-                0
+                variables,
+                basis,
+                0,
+                table.bounds()
         );
     }
 
-    List<Row<T>> addHelperColumns(final List<Integer> negativeRows, final List<Row<T>> lHS) {
-        IntStream.range(0, negativeRows.size())
-                .forEach(i -> IntStream.range(0, lHS.size())
-                        .forEach(e -> {
-                            if (e == 0 || e == negativeRows.get(i) + 1) {
-                                lHS.get(e).addVal("1");
-                            } else {
-                                lHS.get(e).addVal("0");
-                            }
-                        }));
-        return lHS.stream().map(Row::new).toList();
-    }
-
-    List<Row<T>> removeHelperColumns(final int helperColumns, final List<Row<T>> lHS) {
-        final var result = lHS.stream().map(Row::new).toList();
-        IntStream.range(0, helperColumns)
-                .forEach(i -> result.forEach(row -> row.entries().remove(row.entries().size() - 1)));
-        return result;
-    }
-
-    List<Row<T>> addCriterionLineLHS(final List<Row<T>> lHS) {
-        final var line = lHS.get(0).entries().stream()
-                .map(e -> generator.create("0"))
-                .toList();
-        final var result = new ArrayList<>(lHS);
-        result.add(0, new Row<>(line, generator));
-        return result;
-    }
-
-    List<T> addCriterionLineRHS(final List<T> rHS) {
-        final var result = new ArrayList<>(rHS);
-        result.add(0, generator.create("0"));
-        return result;
-    }
-
-    List<Row<T>> invertNegativeRowsLHS(final List<Row<T>> lHS, final List<Integer> negativeRows) {
-        return IntStream.range(0, lHS.size())
-                .mapToObj(i -> {
-                    if (negativeRows.contains(i)) {
-                        return lHS.get(i).invertRow();
-                    }
-                    return lHS.get(i);
-                })
-                .toList();
-    }
-
-    List<T> invertNegativeRowsRHS(final List<T> rHS, final List<Integer> negativeRows) {
-        return IntStream.range(0, rHS.size())
-                .mapToObj(i -> {
-                    if (negativeRows.contains(i)) {
-                        return rHS.get(i).multiply(generator.create("-1"));
-                    }
-                    return rHS.get(i);
-                })
-                .toList();
+    // tables of phase 1 are built on an extended tableau, so the base tableau is used as is
+    private Tableau<T> dropExtension(final Tableau<T> source, final int helperColumns) {
+        if (source instanceof ExtendedTableau<T> extended) {
+            return extended.getBase();
+        }
+        final var tableau = source.create(source.getRows() - 1, source.getColumns() - helperColumns, generator);
+        for (int row = 0; row < tableau.getRows(); ++row) {
+            for (int column = 0; column < tableau.getColumns(); ++column) {
+                tableau.set(row, column, source.get(row + 1, column));
+            }
+            tableau.setRhs(row, source.getRhs(row + 1));
+        }
+        return tableau;
     }
 }
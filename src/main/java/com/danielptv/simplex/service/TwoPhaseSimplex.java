@@ -1,27 +1,55 @@
 package com.danielptv.simplex.service;
 
 import com.danielptv.simplex.entity.Phase;
-import com.danielptv.simplex.entity.Row;
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.SimplexResult;
 import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.SpecialSolutionType;
+import com.danielptv.simplex.entity.TableHistory;
+import com.danielptv.simplex.entity.Tableau;
+import com.danielptv.simplex.entity.VariableKind;
 import com.danielptv.simplex.number.CalculableImpl;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static com.danielptv.simplex.entity.SpecialSolutionType.INFEASIBLE;
 import static com.danielptv.simplex.entity.SpecialSolutionType.MULTIPLE_SOLUTIONS;
 import static com.danielptv.simplex.entity.SpecialSolutionType.UNBOUNDED;
 
 @RequiredArgsConstructor
-@SuppressFBWarnings("EI_EXPOSE_REP2")
-public final class TwoPhaseSimplex<T extends CalculableImpl<T>> {
+@SuppressFBWarnings({"EI_EXPOSE_REP", "EI_EXPOSE_REP2"})
+public final class TwoPhaseSimplex<T extends CalculableImpl<T>> implements SimplexEngine<T> {
+    private static final int CHECKPOINT_INTERVAL = 8;
     private final T generator;
+    // every table in between two checkpoints is derived again when the history is read
+    private final int checkpointInterval;
+    @Getter(AccessLevel.PACKAGE)
     private final TableCalcService<T> calcService;
+    @Getter(AccessLevel.PACKAGE)
     private final TableExtensionService<T> extensionService;
 
+    public static <T extends CalculableImpl<T>> TwoPhaseSimplex<T> of(final T generator) {
+        return of(generator, CHECKPOINT_INTERVAL);
+    }
+
+    public static <T extends CalculableImpl<T>> TwoPhaseSimplex<T> of(final T generator, final int checkpointInterval) {
+        final var calcService = new TableCalcService<>(generator);
+        return new TwoPhaseSimplex<>(
+                generator,
+                checkpointInterval,
+                calcService,
+                new TableExtensionService<>(generator, calcService)
+        );
+    }
+
+    @Override
     public List<Phase<T>> calc(final SimplexTable<T> simplexTable) {
         final var result = new ArrayList<Phase<T>>(2);
         var table = simplexTable;
@@ -42,98 +70,115 @@ public final class TwoPhaseSimplex<T extends CalculableImpl<T>> {
         return result;
     }
 
-    Phase<T> phase1(final SimplexTable<T> simplexTable) {
-        final var tables = new ArrayList<SimplexTable<T>>();
+    // keeps the current table only instead of the history
+    @Override
+    public SimplexResult<T> solve(final SimplexTable<T> simplexTable) {
+        final var current = new AtomicReference<SimplexTable<T>>();
+        var table = simplexTable;
+
+        // optional phase 1
+        if (calcService.isInvalid(table)) {
+            final var extendedTable = transformToCanonical(extensionService.buildExtension(table));
+            final var specialSolutionType = resumePhase1(extendedTable, current::set);
+            if (specialSolutionType != null) {
+                return SimplexResult.of(current.get(), specialSolutionType);
+            }
+            table = extensionService.removeExtension(current.get());
+        }
+
+        // primary simplex algorithm
+        final var specialSolutionType = phase2(table, current::set);
+        return SimplexResult.of(current.get(), specialSolutionType);
+    }
 
+    Phase<T> phase1(final SimplexTable<T> simplexTable) {
         // add helper columns
-        var table = extensionService.buildExtension(simplexTable);
+        final var table = extensionService.buildExtension(simplexTable);
 
         // transform table to its canonical form
-        table = transformToCanonical(table);
-        tables.add(new SimplexTable<>(table, "INITIAL TABLE"));
+        return resumePhase1(transformToCanonical(table));
+    }
 
-        // transform table until acceptable for primary simplex
-        for (int count = 1; calcService.isInvalid(table); ++count) {
-            table = transform(table);
-            tables.add(new SimplexTable<>(table, "ITERATION " + count));
+    Phase<T> resumePhase1(final SimplexTable<T> extendedTable) {
+        final var tables = new TableHistory<>(this::transform, checkpointInterval);
+        return new Phase<>(tables, resumePhase1(extendedTable, tables::append), false);
+    }
 
-            if (calcService.isOptimal(table) && !table.rHS().get(0).equals(generator.create("0"))) {
-                return new Phase<>(tables, INFEASIBLE, false);
-            }
+    private SpecialSolutionType resumePhase1(
+            final SimplexTable<T> extendedTable,
+            final Consumer<SimplexTable<T>> tables
+    ) {
+        var table = extendedTable;
+        tables.accept(new SimplexTable<>(table, "INITIAL TABLE"));
+
+        // transform table until acceptable for primary simplex, the initial table may be infeasible already
+        var isInfeasible = calcService.isInfeasible(table);
+        for (int count = 1; !isInfeasible && calcService.isInvalid(table); ++count) {
+            table = transform(table);
+            tables.accept(new SimplexTable<>(table, "ITERATION " + count));
+            isInfeasible = calcService.isInfeasible(table);
         }
-        return new Phase<>(tables, null, false);
+        return isInfeasible ? INFEASIBLE : null;
     }
 
     Phase<T> phase2(final SimplexTable<T> simplexTable, final boolean singlePhase) {
-        final var tables = new ArrayList<SimplexTable<T>>();
+        final var tables = new TableHistory<>(this::transform, checkpointInterval);
+        return new Phase<>(tables, phase2(simplexTable, tables::append), singlePhase);
+    }
+
+    private SpecialSolutionType phase2(final SimplexTable<T> simplexTable, final Consumer<SimplexTable<T>> tables) {
         var table = simplexTable;
 
-        tables.add(new SimplexTable<>(table, "INITIAL TABLE"));
+        tables.accept(new SimplexTable<>(table, "INITIAL TABLE"));
 
-        // transform the table until an optimal solution is found
-        for (int count = 1; !calcService.isOptimal(table); ++count) {
+        // transform the table until an optimal solution is found, the initial table may be unbounded already
+        var isUnbounded = !calcService.isOptimal(table) && table.pivot().value().isInfinite();
+        for (int count = 1; !isUnbounded && !calcService.isOptimal(table); ++count) {
             table = transform(table);
-            tables.add(new SimplexTable<>(table, "ITERATION " + count));
-
-            final var pivotElement = table.pivot();
-            if (pivotElement.value().isInfinite()) {
-                return new Phase<>(tables, UNBOUNDED, singlePhase);
-            }
+            tables.accept(new SimplexTable<>(table, "ITERATION " + count));
+            isUnbounded = table.pivot().value().isInfinite();
+        }
+        if (isUnbounded) {
+            return UNBOUNDED;
         }
         if (calcService.isDegenerate(table)) {
-            return new Phase<>(tables, MULTIPLE_SOLUTIONS, singlePhase);
+            return MULTIPLE_SOLUTIONS;
         }
-        return new Phase<>(tables, null, singlePhase);
+        return null;
     }
 
-    @SuppressWarnings("LambdaBodyLength")
     public SimplexTable<T> transform(final SimplexTable<T> table) {
-        final var rowCount = table.rHS().size();
-        final var columnHeaders = table.columnHeaders();
         final var pivot = table.pivot();
+        var basis = table.basis();
+        var bounds = table.bounds();
+
+        // the copied tableau is updated in place and published with the new table
+        final var tableau = table.tableau().copy();
+        if (bounds != null && pivot.row() < 0) {
+            // the entering variable reaches its upper bound before any basic variable leaves
+            complementColumn(tableau, pivot.column(), bounds.upper(pivot.column()));
+            bounds = bounds.complement(pivot.column());
+        } else {
+            final var isComplemented = bounds != null && pivot.value().signum() < 0;
+            if (isComplemented) {
+                // the leaving variable reaches its upper bound, so it leaves the basis complemented
+                final var leaving = basis[pivot.row()];
+                complementRow(tableau, pivot.row(), leaving, calcService.upper(tableau, leaving, bounds));
+                bounds = leaving < tableau.getColumns() ? bounds.complement(leaving) : bounds;
+            }
+            eliminate(tableau, pivot, isComplemented ? pivot.value().negate() : pivot.value());
+            basis = calcService.updateBasis(basis, pivot);
+        }
 
-        var rowHeaders = table.rowHeaders();
-        rowHeaders = calcService.updateRowHeaders(columnHeaders, table.rowHeaders(), pivot);
-
-        // find divisor and divide
-        final var divisor = pivot.value();
-        final var lHS = new ArrayList<>(table.lHS());
-        lHS.set(pivot.row(), lHS.get(pivot.row()).divideRow(divisor));
-
-        final var rHS = new ArrayList<>(table.rHS());
-        rHS.set(pivot.row(), rHS.get(pivot.row()).divide(divisor));
-
-        //find factors
-        final List<T> factors;
-        factors = lHS.stream()
-                .map(e -> e.getElement(pivot.column()).multiply(generator.create("-1")))
-                .toList();
-
-        //iterate
-        final List<T> finalFactors = factors;
-        IntStream.range(0, rowCount)
-                .forEach(row -> {
-                    if (row != pivot.row()) {
-                        final var pivotTemp = new Row<>(lHS.get(pivot.row()));
-                        final var currRow = new Row<>(lHS.get(row));
-
-                        lHS.set(row, pivotTemp.multiplyRow(pivotTemp, finalFactors.get(row)));
-                        lHS.set(row, lHS.get(row).addRow(currRow));
-
-                        final var currVal = table.rHS().get(row);
-                        rHS.set(row, rHS.get(pivot.row()).multiply(finalFactors.get(row)).add(currVal));
-                    }
-                });
-
-        final var newPivot = calcService.setPivot(lHS, rHS, table.helperColumns() != 0);
+        final var newPivot = calcService.setPivot(tableau, table.helperColumns() != 0, basis, bounds);
         return new SimplexTable<>(
                 table.title(),
-                lHS,
-                rHS,
+                tableau,
                 newPivot,
-                columnHeaders,
-                rowHeaders,
-                table.helperColumns());
+                table.variables(),
+                basis,
+                table.helperColumns(),
+                bounds);
     }
 
     public SimplexTable<T> transformToCanonical(final SimplexTable<T> table) {
@@ -142,28 +187,60 @@ public final class TwoPhaseSimplex<T extends CalculableImpl<T>> {
             throw new IllegalArgumentException();
         }
 
-        final var extensionSize = table.helperColumns();
-        final var lHs = new ArrayList<>(table.lHS());
-        final var rHS = new ArrayList<>(table.rHS());
-        final var rowHeaders = table.rowHeaders();
-
-        IntStream.range(0, rowHeaders.size())
-                .forEach(i -> {
-                    if (rowHeaders.get(i).contains("h")) {
-                        lHs.set(0, lHs.get(0).addRow(lHs.get(i).invertRow()));
-                        rHS.set(0, rHS.get(0).add(rHS.get(i).multiply(generator.create("-1"))));
-                    }
-                });
+        final var tableau = table.tableau().copy();
+        for (int row = 0; row < tableau.getRows(); ++row) {
+            if (table.basisKind(row) == VariableKind.ARTIFICIAL) {
+                tableau.subtractRow(0, row);
+            }
+        }
 
-        final var pivot = calcService.setPivot(lHs, rHS, true);
+        final var pivot = calcService.setPivot(tableau, true, table.basis(), table.bounds());
         return new SimplexTable<>(
                 table.title(),
-                lHs,
-                rHS,
+                tableau,
                 pivot,
-                table.columnHeaders(),
-                rowHeaders,
-                extensionSize
+                table.variables(),
+                table.basis(),
+                table.helperColumns(),
+                table.bounds()
         );
     }
+
+    private void eliminate(final Tableau<T> tableau, final Pivot<T> pivot, final T divisor) {
+        tableau.divideRow(pivot.row(), divisor);
+
+        // rows with a zero in the pivot column stay unchanged and are shared with the previous tableau, unless the
+        // pivot row turned infinite
+        for (int row = 0; row < tableau.getRows(); ++row) {
+            final var factor = tableau.get(row, pivot.column()).negate();
+            if (row != pivot.row() && (!factor.isZero() || divisor.isInfinite())) {
+                tableau.axpyRow(row, factor, pivot.row());
+            }
+        }
+    }
+
+    // replaces the variable of a column that is not basic with its distance to the upper bound
+    private static <T extends CalculableImpl<T>> void complementColumn(
+            final Tableau<T> tableau,
+            final int column,
+            final T upper
+    ) {
+        for (int row = 0; row < tableau.getRows(); ++row) {
+            final var entry = tableau.get(row, column);
+            if (!entry.isZero()) {
+                tableau.setRhs(row, tableau.getRhs(row).subtract(entry.multiply(upper)));
+                tableau.set(row, column, entry.negate());
+            }
+        }
+    }
+
+    // replaces the basic variable of a row with its distance to the upper bound, the column of a helper variable that
+    // is not part of the table anymore stays zero
+    private void complementRow(final Tableau<T> tableau, final int row, final int column, final T upper) {
+        tableau.negateRow(row);
+        if (column < tableau.getColumns()) {
+            tableau.set(row, column, generator.one());
+        }
+        tableau.setRhs(row, tableau.getRhs(row).add(upper));
+    }
 }
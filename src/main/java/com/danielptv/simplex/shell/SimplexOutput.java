@@ -2,6 +2,7 @@ package com.danielptv.simplex.shell;
 
 import com.danielptv.simplex.dev.Banner;
 import com.danielptv.simplex.entity.Phase;
+import com.danielptv.simplex.entity.SimplexResult;
 import com.danielptv.simplex.entity.SpecialSolutionType;
 import com.danielptv.simplex.number.CalculableImpl;
 import com.danielptv.simplex.shell.table.SimplexTableBuilder;
@@ -50,9 +51,8 @@ public class SimplexOutput {
                     .toList();
             final var phaseColumnWidths = getPhaseColumnsMaxWidths(phaseModels);
 
-            IntStream.range(0, phaseModels.size()).forEach(phaseTable -> {
-                sb.append(phase.tables().get(phaseTable).title()).append(String.format("%n"));
-                final var model = phaseModels.get(phaseTable);
+            phaseModels.forEach(model -> {
+                sb.append(model.getTitle()).append(String.format("%n"));
                 final var twoObjFunc = phase.getLastTable().rows() >
                         result.get(result.size() - 1).getLastTable().rows();
                 final var printTable = tableBuilder.build(model, twoObjFunc, phaseColumnWidths);
@@ -60,8 +60,15 @@ public class SimplexOutput {
             });
         });
 
+        final var lastPhase = result.get(result.size() - 1);
+        return sb.append(printSolution(resultOf(lastPhase)));
+    }
+
+    public StringBuilder printSolution(final SimplexResult<? extends CalculableImpl<?>> result) {
+        final var sb = new StringBuilder();
+
         // special solutions
-        final var specialSolution = result.get(result.size() - 1).specialSolutionType();
+        final var specialSolution = result.specialSolutionType();
         if (specialSolution != null) {
             if (!specialSolution.equals(SpecialSolutionType.MULTIPLE_SOLUTIONS)) {
                 sb.append(outputHelper.getErrorMessage(specialSolution.toString()));
@@ -73,33 +80,16 @@ public class SimplexOutput {
         // optimal solution
         // objective function
         final var solution = new StringBuilder();
-        final var lastTable = result.get(result.size() - 1).getLastTable();
         solution.append("OPTIMAL SOLUTION").append(String.format("%n"));
-        solution.append("f(x)˟ = ").append(lastTable.rHS().get(0).toDecimal().toPlainString());
+        solution.append("f(x)˟ = ").append(result.objectiveValue().toDecimal().toPlainString());
         solution.append(String.format("%n"));
 
         // variables
-        final var variables = lastTable.columnHeaders().stream()
-                .filter(e -> e.contains("x"))
-                .toList();
-        final var newRowHeaders = lastTable.rowHeaders().stream()
-                .map(e -> {
-                    if (e.length() == "x1[1]".length()) {
-                        return e.substring(0, e.length() - 3);
-                    }
-                    return e;
-                })
-                .toList();
-        variables.forEach(e -> {
-            final var variableNumber = SubscriptNumbers.toValue(Integer.parseInt(String.valueOf(e.charAt(1))));
-            solution.append(String.format("x%s˟ = ", variableNumber));
-            if (newRowHeaders.contains(e)) {
-                final var index = newRowHeaders.indexOf(e);
-                solution.append(lastTable.rHS().get(index)).append(String.format("%n"));
-            } else {
-                solution.append(String.format("0%n"));
-            }
-        });
+        final var variableValues = result.variableValues();
+        IntStream.range(0, variableValues.size()).forEach(variable -> solution
+                .append(String.format("x%s˟ = ", SubscriptNumbers.toValue(variable + 1)))
+                .append(variableValues.get(variable))
+                .append(String.format("%n")));
         sb.append(outputHelper.getSuccessMessage(solution.toString()));
         return sb;
     }
@@ -117,4 +107,8 @@ public class SimplexOutput {
         });
         return result;
     }
+
+    private static <T extends CalculableImpl<T>> SimplexResult<T> resultOf(final Phase<T> phase) {
+        return SimplexResult.of(phase.getLastTable(), phase.specialSolutionType());
+    }
 }
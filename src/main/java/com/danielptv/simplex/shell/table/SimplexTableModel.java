@@ -1,6 +1,7 @@
 package com.danielptv.simplex.shell.table;
 
 import com.danielptv.simplex.entity.SimplexTable;
+import lombok.Getter;
 import org.springframework.shell.table.TableModel;
 import org.springframework.util.Assert;
 
@@ -10,9 +11,13 @@ import java.util.stream.IntStream;
 
 public class SimplexTableModel extends TableModel {
     private final ArrayList<ArrayList<String>> data;
+    // kept so tables derived from a history are not replayed again for their title
+    @Getter
+    private final String title;
 
     public SimplexTableModel(final SimplexTable<?> table, final boolean accentPivot) {
         this.data = tableToArray(table, accentPivot);
+        this.title = table.title();
         final int width = data.size() > 0 ? data.get(0).size() : 0;
         for (ArrayList<String> datum : data) {
             Assert.isTrue(width == datum.size(), "All rows of list data must be of same length");
@@ -49,25 +54,26 @@ public class SimplexTableModel extends TableModel {
 
         final var columns = new ArrayList<String>();
         columns.add(" J ");
-        table.columnHeaders().forEach(header -> columns.add(" " + header + " "));
+        TableLabels.columnHeaders(table).forEach(header -> columns.add(" " + header + " "));
         result.add(columns);
 
+        final var rowHeaders = TableLabels.rowHeaders(table);
         final var pivotRow = table.pivot().row();
         final var pivotColumn = table.pivot().column();
 
         IntStream.range(0, table.rows()).forEach(r -> {
             final var row = new ArrayList<String>();
-            row.add(" " + table.rowHeaders().get(r) + " ");
+            row.add(" " + rowHeaders.get(r) + " ");
 
             IntStream.range(0, table.columns()).forEach(c -> {
-                final var entry = table.lHS().get(r).entries().get(c);
+                final var entry = table.tableau().get(r, c);
                 if (accentPivot && r == pivotRow && c == pivotColumn) {
                     row.add(" [" + entry.toString() + "] ");
                 } else {
                     row.add(" " + entry.toString() + " ");
                 }
             });
-            final var rHS = " " + table.rHS().get(r).toString() + " ";
+            final var rHS = " " + table.tableau().getRhs(r).toString() + " ";
             row.add(rHS);
             result.add(row);
         });
@@ -0,0 +1,59 @@
+package com.danielptv.simplex.shell.table;
+
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.VariableKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// display labels of the variables, basic variables are enumerated with their column, i.e. x2[2], variables that are
+// replaced with their distance to the upper bound are marked, i.e. x2'[2]
+public final class TableLabels {
+    private TableLabels() {
+    }
+
+    public static List<String> columnHeaders(final SimplexTable<?> table) {
+        final var result = new ArrayList<String>();
+        IntStream.range(0, table.variables().size()).forEach(column -> result.add(label(table, column)));
+        result.add("f");
+        return result;
+    }
+
+    public static List<String> rowHeaders(final SimplexTable<?> table) {
+        return IntStream.range(0, table.rows())
+                .mapToObj(row -> rowHeader(table, row))
+                .toList();
+    }
+
+    private static String rowHeader(final SimplexTable<?> table, final int row) {
+        final var column = table.basis()[row];
+        if (column < 0) {
+            return table.helperColumns() != 0 && row == 0 ? "z'" : "z";
+        }
+        return label(table, column) + "[" + (column + 1) + "]";
+    }
+
+    // helper variables outside of the table are numbered after the ones inside
+    private static String label(final SimplexTable<?> table, final int column) {
+        final var variables = table.variables();
+        if (column >= variables.size()) {
+            return "h" + (count(variables, VariableKind.ARTIFICIAL, variables.size()) + column - variables.size() + 1);
+        }
+        final var kind = variables.get(column);
+        final var isComplemented = table.bounds() != null && table.bounds().isComplemented(column);
+        return prefix(kind) + (count(variables, kind, column) + 1) + (isComplemented ? "'" : "");
+    }
+
+    private static int count(final List<VariableKind> variables, final VariableKind kind, final int end) {
+        return (int) variables.subList(0, end).stream().filter(kind::equals).count();
+    }
+
+    private static String prefix(final VariableKind kind) {
+        return switch (kind) {
+            case STRUCTURAL -> "x";
+            case SLACK -> "s";
+            case ARTIFICIAL -> "h";
+        };
+    }
+}
@@ -0,0 +1,580 @@
+package com.danielptv.simplex.entity;
+
+import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.number.FloatingPoint;
+import com.danielptv.simplex.number.Fraction;
+import com.danielptv.simplex.number.InfinityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@Tag("entity")
+@DisplayName("Tableaus Test")
+final class TableauTest {
+    // the last entry of every row is the right-hand side
+    static final String[][] ENTRIES = {
+            {"-6", "-4", "0", "0", "0"},
+            {"1", "2", "1", "0", "3000"},
+            {"2", "1", "0", "1", "3000"}
+    };
+    // entries after pivoting on row 2 and column 0
+    static final String[][] PIVOTED = {
+            {"0", "-1", "0", "3", "9000"},
+            {"0", "3/2", "1", "-1/2", "1500"},
+            {"1", "1/2", "0", "1/2", "1500"}
+    };
+    static final int ROWS = 3;
+    static final int COLUMNS = 4;
+
+    private TableauTest() {
+
+    }
+
+    static <T extends CalculableImpl<T>, U extends Tableau<T>> U fill(final U tableau, final String[][] entries) {
+        for (int row = 0; row < entries.length; ++row) {
+            for (int column = 0; column < entries[row].length; ++column) {
+                tableau.set(row, column, tableau.getGenerator().create(entries[row][column]));
+            }
+        }
+        return tableau;
+    }
+
+    static <T extends CalculableImpl<T>> void pivot(final Tableau<T> tableau) {
+        tableau.divideRow(2, tableau.get(2, 0));
+        tableau.axpyRow(0, tableau.get(0, 0).negate(), 2);
+        tableau.axpyRow(1, tableau.get(1, 0).negate(), 2);
+    }
+
+    static <T extends CalculableImpl<T>> void assertEntries(final Tableau<T> tableau, final String[][] expected) {
+        assertThat(tableau.getRows()).isEqualTo(expected.length);
+        assertThat(tableau.getColumns()).isEqualTo(expected[0].length - 1);
+        for (int row = 0; row < expected.length; ++row) {
+            for (int column = 0; column < expected[row].length; ++column) {
+                final var entry = tableau.get(row, column);
+                assertThat(entry.compareTo(tableau.getGenerator().create(expected[row][column])))
+                        .as("entry %d, %d is %s", row, column, entry)
+                        .isZero();
+            }
+        }
+    }
+
+    // row operations and copies behave the same for every storage
+    static <T extends CalculableImpl<T>> void assertRowOperations(final Tableau<T> tableau) {
+        // arrange
+        fill(tableau, ENTRIES);
+
+        // act
+        final var minIndex = tableau.getMinIndex(0);
+        final var copy = tableau.copy();
+        pivot(copy);
+        final var other = tableau.copy();
+        other.subtractRow(1, 2);
+
+        // assert
+        assertThat(minIndex).isZero();
+        assertThat(tableau.isPositive(0)).isFalse();
+        assertThat(tableau.getRhs(1)).isEqualTo(tableau.getGenerator().create("3000"));
+        assertEntries(tableau, ENTRIES);
+        assertEntries(copy, PIVOTED);
+        assertThat(copy.getMinIndex(0)).isOne();
+        assertThat(other.row(1)).containsExactly(
+                other.getGenerator().create("-1"),
+                other.getGenerator().create("1"),
+                other.getGenerator().create("1"),
+                other.getGenerator().create("-1")
+        );
+        assertThat(other.getRhs(1).isZero()).isTrue();
+        assertEntries(copy.copy(), PIVOTED);
+    }
+
+    // writing the source after a copy leaves the copy unchanged
+    static <T extends CalculableImpl<T>> void assertSourceWrite(final Tableau<T> tableau) {
+        // arrange
+        fill(tableau, ENTRIES);
+        final var copy = tableau.copy();
+
+        // act
+        pivot(tableau);
+        tableau.set(1, 1, tableau.getGenerator().create("99"));
+        tableau.setRhs(0, tableau.getGenerator().create("1"));
+
+        // assert
+        assertEntries(copy, ENTRIES);
+        assertThat(tableau.get(1, 1)).isEqualTo(tableau.getGenerator().create("99"));
+        assertThat(tableau.getRhs(0)).isEqualTo(tableau.getGenerator().create("1"));
+        assertThat(tableau.get(2, 1)).isEqualTo(tableau.getGenerator().create("1/2"));
+    }
+
+    @Nested
+    @DisplayName("Tables in DenseTableau")
+    class DenseTableauTest {
+        @Test
+        @DisplayName("Calculate row operations on DenseTableau")
+        void rowOperations() {
+            assertRowOperations(new DenseTableau<>(ROWS, COLUMNS, new Fraction()));
+        }
+
+        @Test
+        @DisplayName("Keep copies of DenseTableau unchanged when the source is written")
+        void writeSource() {
+            assertSourceWrite(new DenseTableau<>(ROWS, COLUMNS, new Fraction()));
+        }
+
+        @Test
+        @DisplayName("Share rows between copies of DenseTableau until they are written")
+        void copy() {
+            // arrange
+            final var tableau = fill(new DenseTableau<>(ROWS, COLUMNS, new Fraction()), ENTRIES);
+
+            // act
+            final var first = tableau.copy();
+            final var second = tableau.copy();
+            pivot(first);
+            second.negateRow(1);
+            final var third = first.copy();
+            third.setRhs(0, new Fraction("1"));
+
+            // assert
+            assertEntries(tableau, ENTRIES);
+            assertEntries(first, PIVOTED);
+            assertThat(second.row(1)).containsExactly(
+                    new Fraction("-1"),
+                    new Fraction("-2"),
+                    new Fraction("-1"),
+                    new Fraction("0")
+            );
+            assertThat(second.getRhs(2)).isEqualTo(new Fraction("3000"));
+            assertThat(third.getRhs(0)).isEqualTo(new Fraction("1"));
+            assertThat(first.getRhs(0)).isEqualTo(new Fraction("9000"));
+            assertThat(second.get(2, 0)).isSameAs(tableau.get(2, 0));
+        }
+
+        @Test
+        @DisplayName("Build DenseTableau from rows")
+        void of() {
+            // arrange
+            final var copy = fill(new DenseTableau<>(ROWS, COLUMNS, new Fraction()), ENTRIES);
+
+            // act
+            final var tableau = Tableau.of(copy.lHS(), copy.rHS());
+
+            // assert
+            assertThat(tableau).isInstanceOf(DenseTableau.class);
+            assertEntries(tableau, ENTRIES);
+            assertThat(tableau.column(0)).containsExactly(new Fraction("-6"), new Fraction("1"), new Fraction("2"));
+        }
+    }
+    @Nested
+    @DisplayName("Tables in SparseTableau")
+    class SparseTableauTest {
+        @Test
+        @DisplayName("Calculate row operations on SparseTableau")
+        void rowOperations() {
+            assertRowOperations(new SparseTableau<>(ROWS, COLUMNS, new Fraction()));
+        }
+
+        @Test
+        @DisplayName("Keep copies of SparseTableau unchanged when the source is written")
+        void writeSource() {
+            assertSourceWrite(new SparseTableau<>(ROWS, COLUMNS, new Fraction()));
+        }
+
+        @Test
+        @DisplayName("Store only non-zero entries in SparseTableau")
+        void nonZeros() {
+            // arrange
+            final var tableau = fill(new SparseTableau<>(ROWS, COLUMNS, new Fraction()), ENTRIES);
+
+            // act
+            final var before = tableau.getNonZeros();
+            pivot(tableau);
+            final var after = tableau.getNonZeros();
+            tableau.set(1, 1, new Fraction());
+
+            // assert
+            assertThat(before).isEqualTo(10);
+            assertThat(after).isEqualTo(11);
+            assertThat(tableau.getNonZeros()).isEqualTo(10);
+            assertThat(tableau.get(1, 1).isZero()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Find the minimum of rows with missing zeros in SparseTableau")
+        void minIndex() {
+            // arrange
+            final var tableau = fill(new SparseTableau<>(ROWS, COLUMNS, new Fraction()), new String[][] {
+                    {"1", "0", "2", "0", "-5"},
+                    {"1", "2", "0", "-1", "0"},
+                    {"0", "0", "0", "0", "0"}
+            });
+
+            // act
+            final var missing = tableau.getMinIndex(0);
+            final var stored = tableau.getMinIndex(1);
+            final var empty = tableau.getMinIndex(2);
+
+            // assert
+            assertThat(missing).isOne();
+            assertThat(stored).isEqualTo(3);
+            assertThat(empty).isZero();
+            assertThat(tableau.isPositive(0)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Divide rows of SparseTableau by infinity")
+        void divideByInfinity() {
+            // arrange
+            final var tableau = fill(new SparseTableau<>(ROWS, COLUMNS, new Fraction()), ENTRIES);
+            final var copy = tableau.copy();
+
+            // act
+            copy.divideRow(1, new Fraction().toInfinity(InfinityType.POSITIVE));
+
+            // assert
+            assertEntries(tableau, ENTRIES);
+            assertThat(copy.row(1)).allMatch(Fraction::isInfinite);
+            assertThat(copy.getRhs(1).isInfinite()).isTrue();
+        }
+    }
+    @Nested
+    @DisplayName("Tables in TableHistory")
+    class TableHistoryTest {
+        private static final int INTERVAL = 4;
+        private int transformations;
+
+        // every table adds one to the right-hand side of its predecessor
+        private SimplexTable<Fraction> transform(final SimplexTable<Fraction> table) {
+            ++transformations;
+            final var tableau = table.tableau().copy();
+            tableau.setRhs(0, tableau.getRhs(0).add(new Fraction("1")));
+            return new SimplexTable<>(
+                    table.title(),
+                    tableau,
+                    table.pivot(),
+                    table.variables(),
+                    table.basis(),
+                    table.helperColumns(),
+                    table.bounds()
+            );
+        }
+
+        private SimplexTable<Fraction> table(final String rhs, final String title) {
+            final var tableau = new DenseTableau<>(1, 1, new Fraction());
+            tableau.set(0, 0, new Fraction("1"));
+            tableau.setRhs(0, new Fraction(rhs));
+            return new SimplexTable<>(
+                    title,
+                    tableau,
+                    new Pivot<>(0, 0, new Fraction("1")),
+                    List.of(VariableKind.STRUCTURAL),
+                    new int[] {-1},
+                    0,
+                    null
+            );
+        }
+
+        private TableHistory<Fraction> history(final int size) {
+            final var history = new TableHistory<>(this::transform, INTERVAL);
+            var table = table("0", "INITIAL TABLE");
+            history.append(table);
+            for (int count = 1; count < size; ++count) {
+                table = new SimplexTable<>(transform(table), "ITERATION " + count);
+                history.append(table);
+            }
+            transformations = 0;
+            return history;
+        }
+
+        @Test
+        @DisplayName("Replay the tables between checkpoints of TableHistory once")
+        void replay() {
+            // arrange
+            final var history = history(10);
+
+            // act
+            final var tables = List.copyOf(history);
+
+            // assert
+            assertThat(tables).hasSize(10);
+            for (int index = 0; index < tables.size(); ++index) {
+                assertThat(tables.get(index).rHS().get(0)).isEqualTo(new Fraction(String.valueOf(index)));
+                assertThat(tables.get(index).title()).isEqualTo(index == 0 ? "INITIAL TABLE" : "ITERATION " + index);
+            }
+            // tables 0, 4 and 8 are checkpoints and table 9 is the last table
+            assertThat(transformations).isEqualTo(6);
+            assertThat(history.get(9)).isSameAs(tables.get(9));
+        }
+
+        @Test
+        @DisplayName("Derive tables of TableHistory from the closest checkpoint")
+        void get() {
+            // arrange
+            final var history = history(10);
+
+            // act
+            final var seventh = history.get(7);
+            final var replayed = transformations;
+            final var second = history.get(2);
+
+            // assert
+            assertThat(seventh.rHS().get(0)).isEqualTo(new Fraction("7"));
+            assertThat(replayed).isEqualTo(3);
+            assertThat(second.rHS().get(0)).isEqualTo(new Fraction("2"));
+            assertThat(transformations).isEqualTo(5);
+            assertThat(history.get(7).rHS().get(0)).isEqualTo(new Fraction("7"));
+        }
+
+        @Test
+        @DisplayName("Replace the first table of TableHistory")
+        void withHead() {
+            // arrange
+            final var history = history(6);
+            final var head = List.of(table("-1", "INITIAL TABLE"), table("0", "CERTIFIED TABLE"));
+
+            // act
+            final var result = history.withHead(head);
+
+            // assert
+            assertThat(result).extracting(SimplexTable::title).containsExactly(
+                    "INITIAL TABLE", "CERTIFIED TABLE", "ITERATION 1", "ITERATION 2", "ITERATION 3", "ITERATION 4",
+                    "ITERATION 5"
+            );
+            assertThat(result).extracting(table -> table.rHS().get(0)).containsExactly(
+                    new Fraction("-1"),
+                    new Fraction("0"),
+                    new Fraction("1"),
+                    new Fraction("2"),
+                    new Fraction("3"),
+                    new Fraction("4"),
+                    new Fraction("5")
+            );
+            assertThat(history.withHead(head.subList(0, 1))).hasSize(6);
+            assertThat(history(1).withHead(head).get(1).title()).isEqualTo("CERTIFIED TABLE");
+        }
+    }
+    @Nested
+    @DisplayName("Tables in OffHeapTableau")
+    class OffHeapTableauTest {
+        @Test
+        @DisplayName("Calculate row operations on OffHeapTableau in direct buffers")
+        void rowOperations() {
+            assertRowOperations(new OffHeapTableau(ROWS, COLUMNS, new FloatingPoint(), false));
+        }
+
+        @Test
+        @DisplayName("Calculate row operations on OffHeapTableau in a mapped file")
+        void mapped() {
+            // act
+            final var tableau = TableauStorage.MAPPED.create(ROWS, COLUMNS, new FloatingPoint());
+
+            // assert
+            assertThat(tableau).isInstanceOf(OffHeapTableau.class);
+            assertThat(((OffHeapTableau) tableau).isMapped()).isTrue();
+            assertRowOperations(tableau);
+        }
+
+        @Test
+        @DisplayName("Store infinite entries in OffHeapTableau")
+        void infinite() {
+            // arrange
+            final var tableau = fill(new OffHeapTableau(ROWS, COLUMNS, new FloatingPoint(), false), ENTRIES);
+            final var infinity = new FloatingPoint().toInfinity(InfinityType.POSITIVE);
+
+            // act
+            tableau.setRhs(1, infinity);
+            tableau.axpyRow(2, new FloatingPoint().create("2"), 1);
+
+            // assert
+            assertThat(tableau.getRhs(1)).isEqualTo(infinity);
+            assertThat(tableau.getRhs(2)).isEqualTo(infinity);
+            assertThat(tableau.get(2, 1)).isEqualTo(new FloatingPoint().create("5"));
+        }
+
+        @Test
+        @DisplayName("Store only floating point numbers off the heap")
+        void storage() {
+            // act
+            final var fractions = TableauStorage.OFF_HEAP.create(ROWS, COLUMNS, new Fraction());
+            final var floats = TableauStorage.OFF_HEAP.create(ROWS, COLUMNS, new FloatingPoint());
+
+            // assert
+            assertThat(fractions).isInstanceOf(DenseTableau.class);
+            assertThat(floats).isInstanceOf(OffHeapTableau.class);
+            assertThat(floats.create(1, 1, new Fraction())).isInstanceOf(DenseTableau.class);
+            assertThat(floats.create(1, 1, new FloatingPoint())).isInstanceOf(OffHeapTableau.class);
+        }
+    }
+    @Nested
+    @DisplayName("Tables in ExtendedTableau")
+    class ExtendedTableauTest {
+        // the criterion line and one helper column in front of the entries, the helper is basic in row 2
+        private static final String[][] EXTENDED = {
+                {"-1", "-2", "-1", "0", "0", "-3000"},
+                {"-6", "-4", "0", "0", "0", "0"},
+                {"1", "2", "1", "0", "0", "3000"},
+                {"2", "1", "0", "1", "1", "3000"}
+        };
+
+        private ExtendedTableau<Fraction> extended() {
+            final var base = fill(new DenseTableau<>(ROWS, COLUMNS, new Fraction()), ENTRIES);
+            final var result = new ExtendedTableau<>(base, 1);
+            result.set(3, 4, new Fraction("1"));
+            for (int column = 0; column < 3; ++column) {
+                result.set(0, column, new Fraction(EXTENDED[0][column]));
+            }
+            result.setRhs(0, new Fraction("-3000"));
+            return result;
+        }
+
+        @Test
+        @DisplayName("Map rows and columns of ExtendedTableau to the base tableau")
+        void entries() {
+            // act
+            final var tableau = extended();
+
+            // assert
+            assertEntries(tableau, EXTENDED);
+            assertEntries(tableau.getBase(), ENTRIES);
+            assertThat(tableau.column(4)).containsExactly(
+                    new Fraction(), new Fraction(), new Fraction(), new Fraction("1")
+            );
+        }
+
+        @Test
+        @DisplayName("Calculate row operations on ExtendedTableau")
+        void rowOperations() {
+            // arrange
+            final var tableau = extended();
+
+            // act
+            tableau.divideRow(3, new Fraction("2"));
+            tableau.axpyRow(0, new Fraction("1"), 3);
+            tableau.axpyRow(1, new Fraction("6"), 3);
+            tableau.subtractRow(2, 3);
+            tableau.subtractRow(0, 2);
+
+            // assert
+            assertEntries(tableau, new String[][] {
+                    {"0", "-3", "-2", "1", "1", "-3000"},
+                    {"0", "-1", "0", "3", "3", "9000"},
+                    {"0", "3/2", "1", "-1/2", "-1/2", "1500"},
+                    {"1", "1/2", "0", "1/2", "1/2", "1500"}
+            });
+            assertEntries(tableau.getBase(), PIVOTED);
+        }
+
+        @Test
+        @DisplayName("Copy ExtendedTableau without changing the source")
+        void copy() {
+            // arrange
+            final var tableau = extended();
+
+            // act
+            final var copy = (ExtendedTableau<Fraction>) tableau.copy();
+            copy.negateRow(0);
+            copy.negateRow(3);
+
+            // assert
+            assertEntries(tableau, EXTENDED);
+            assertThat(copy.getBase()).isNotSameAs(tableau.getBase());
+            assertThat(copy.get(0, 1)).isEqualTo(new Fraction("2"));
+            assertThat(copy.get(3, 4)).isEqualTo(new Fraction("-1"));
+            assertThat(copy.getRhs(3)).isEqualTo(new Fraction("-3000"));
+        }
+    }
+    @Nested
+    @DisplayName("Tables in PrimitiveTableau")
+    class PrimitiveTableauTest {
+        private static final int LENGTH = 37;
+
+        private static double[] randomRow(final Random random) {
+            final var row = new double[LENGTH];
+            for (int i = 0; i < LENGTH; ++i) {
+                // every third entry is zero, so the fused multiply-add has entries to keep
+                row[i] = i % 3 == 0 ? 0 : random.nextDouble() * 200 - 100;
+            }
+            return row;
+        }
+
+        @Test
+        @DisplayName("Calculate row operations on PrimitiveTableau")
+        void rowOperations() {
+            assertRowOperations(new PrimitiveTableau(ROWS, COLUMNS, new FloatingPoint()));
+        }
+
+        @Test
+        @DisplayName("Keep copies of PrimitiveTableau unchanged when the source is written")
+        void writeSource() {
+            assertSourceWrite(new PrimitiveTableau(ROWS, COLUMNS, new FloatingPoint()));
+        }
+
+        @Test
+        @DisplayName("Share rows between copies of PrimitiveTableau until they are written")
+        void copy() {
+            // arrange
+            final var tableau = fill(new PrimitiveTableau(ROWS, COLUMNS, new FloatingPoint()), ENTRIES);
+
+            // act
+            final var first = tableau.copy();
+            final var second = tableau.copy();
+            pivot(first);
+            second.setRhs(2, new FloatingPoint().create("1"));
+
+            // assert
+            assertEntries(tableau, ENTRIES);
+            assertEntries(first, PIVOTED);
+            assertThat(second.getRhs(2)).isEqualTo(new FloatingPoint().create("1"));
+            assertThat(second.getRhs(1)).isEqualTo(new FloatingPoint().create("3000"));
+        }
+
+        @Test
+        @DisplayName("Calculate rows with infinite entries of PrimitiveTableau entry by entry")
+        void infinite() {
+            // arrange
+            final var tableau = fill(new PrimitiveTableau(ROWS, COLUMNS, new FloatingPoint()), ENTRIES);
+            final var infinity = new FloatingPoint().toInfinity(InfinityType.NEGATIVE);
+
+            // act
+            tableau.set(1, 3, infinity);
+            tableau.subtractRow(2, 1);
+            tableau.divideRow(1, new FloatingPoint().create("2"));
+
+            // assert
+            assertThat(tableau.get(2, 3)).isEqualTo(infinity.negate());
+            assertThat(tableau.getRhs(2).isZero()).isTrue();
+            assertThat(tableau.get(1, 3)).isEqualTo(infinity);
+            assertThat(tableau.get(1, 1)).isEqualTo(new FloatingPoint().create("1"));
+            assertThat(tableau.getMinIndex(1)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Calculate the same rows with the vector api as with scalars")
+        void vectorized() {
+            // arrange
+            final var tolerance = FloatingPoint.Tolerance.DEFAULT;
+            final var random = new Random(1);
+            final var source = randomRow(random);
+            final var target = randomRow(random);
+            final var vectorTarget = target.clone();
+            final var scalarTarget = target.clone();
+
+            // act
+            VectorRows.axpy(vectorTarget, -1.5, source, tolerance);
+            PrimitiveRows.axpy(scalarTarget, -1.5, source, 0, tolerance);
+            VectorRows.subtract(vectorTarget, source, tolerance);
+            PrimitiveRows.subtract(scalarTarget, source, 0, tolerance);
+            VectorRows.divide(vectorTarget, 3, tolerance);
+            PrimitiveRows.divide(scalarTarget, 0, 3, tolerance);
+
+            // assert
+            assertThat(vectorTarget).containsExactly(scalarTarget);
+        }
+    }
+}
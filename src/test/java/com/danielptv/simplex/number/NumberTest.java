@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Tag("unit")
@@ -27,6 +29,14 @@ final class NumberTest {
         private static final String MULTIPLY_RESULT = "3290";
         private static final String DIVIDE_RESULT_1 = "0.168";
         private static final String DIVIDE_RESULT_2 = "5.96";
+        private static final String SUBTRACT_RESULT = "-116";
+        private static final String NEGATE_RESULT = "-140";
+        private static final String RATIONAL_RESULT = "0.333";
+        private static final String FMA_RESULT = "9.98";
+        private static final String SMALL_DECIMAL = "0.000000001";
+        private static final String LARGE_DECIMAL = "98765432109876543210987";
+        private static final String LARGE_RESULT = "98800000000000000000000";
+        private static final String SMALL_QUOTIENT_RESULT = "0.0000000000000000000000000000000101";
         private static final int MANTISSA = 3;
 
         @Test
@@ -93,6 +103,103 @@ final class NumberTest {
             assertThat(result2.toString()).isEqualTo(DIVIDE_RESULT_2);
         }
 
+        @Test
+        @DisplayName("Field operations on RoundedDecimal")
+        void fieldOperations() {
+            // arrange
+            final var dec1 = new RoundedDecimal(DECIMAL_1, MANTISSA);
+            final var dec2 = new RoundedDecimal(DECIMAL_2, MANTISSA);
+
+            // act
+            final var difference = dec1.subtract(dec2);
+            final var negated = dec2.negate();
+            final var rational = dec1.fromRational(1, 3);
+
+            // assert
+            assertThat(difference.toString()).isEqualTo(SUBTRACT_RESULT);
+            assertThat(negated.toString()).isEqualTo(NEGATE_RESULT);
+            assertThat(rational.toString()).isEqualTo(RATIONAL_RESULT);
+            assertThat(dec1.fromLong(0)).isEqualTo(dec1.zero()).isEqualTo(new RoundedDecimal("0", MANTISSA));
+            assertThat(dec1.fromLong(1)).isEqualTo(dec1.one());
+            assertThat(dec1.minusOne().toString()).isEqualTo("-1");
+            assertThat(dec1.signum()).isPositive();
+            assertThat(negated.signum()).isNegative();
+            assertThat(dec1.subtract(dec1).isZero()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Fused multiply-add for RoundedDecimal")
+        void fusedMultiplyAdd() {
+            // arrange
+            final var addend = new RoundedDecimal("-0.001", MANTISSA);
+            final var factor = new RoundedDecimal("3.16", MANTISSA);
+
+            // act
+            final var fused = addend.fma(factor, factor);
+            final var separate = addend.add(factor.multiply(factor));
+
+            // assert
+            assertThat(fused.toString()).isEqualTo(FMA_RESULT);
+            assertThat(separate.toString()).isNotEqualTo(FMA_RESULT);
+            assertThat(factor.fromLong(2).fma(factor.fromLong(-3), new RoundedDecimal("0.667", MANTISSA)).isZero())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("Round RoundedDecimal to significant digits")
+        void significantDigits() {
+            // arrange
+            final var small = new RoundedDecimal(SMALL_DECIMAL, MANTISSA);
+            final var large = new RoundedDecimal(LARGE_DECIMAL, MANTISSA);
+
+            // act
+            final var quotient = small.divide(large);
+            final var rational = small.fromRational(2, 3);
+
+            // assert
+            assertThat(large.toString()).isEqualTo(LARGE_RESULT);
+            assertThat(quotient.toString()).isEqualTo(SMALL_QUOTIENT_RESULT);
+            assertThat(rational.toString()).isEqualTo("0.667");
+        }
+
+        @Test
+        @DisplayName("Accumulate products of RoundedDecimal")
+        void accumulate() {
+            // arrange
+            final var addend = new RoundedDecimal("-0.001", MANTISSA);
+            final var factor = new RoundedDecimal("3.16", MANTISSA);
+            final var accumulator = addend.accumulator();
+
+            // act
+            accumulator.set(addend);
+            accumulator.addProduct(factor, factor);
+            final var single = accumulator.snapshot();
+            accumulator.addProduct(factor, factor.negate());
+            accumulator.addProduct(factor, addend.toInfinity(InfinityType.POSITIVE));
+
+            // assert
+            assertThat(accumulator).isInstanceOf(MutableDecimal.class);
+            assertThat(single).isEqualTo(addend.fma(factor, factor));
+            assertThat(accumulator.snapshot().toString()).isEqualTo(INFINITY);
+        }
+
+        @Test
+        @DisplayName("Share zero and one of RoundedDecimal")
+        void intern() {
+            // arrange
+            final var dec = new RoundedDecimal(DECIMAL_1, MANTISSA);
+
+            // act
+            final var difference = dec.subtract(dec);
+            final var quotient = dec.divide(dec);
+
+            // assert
+            assertThat(difference).isSameAs(dec.zero());
+            assertThat(quotient).isSameAs(dec.one());
+            assertThat(quotient.negate()).isSameAs(dec.minusOne());
+            assertThat(dec.create("0.00")).isSameAs(dec.zero());
+        }
+
         @Test
         @DisplayName("Calculate with infinity for RoundedDecimal")
         void calculateWithInfinity() {
@@ -124,6 +231,133 @@ final class NumberTest {
         }
     }
 
+    @Nested
+    @DisplayName("Calculations with ScaledDecimal")
+    class ScaledDecimalTest {
+        private static final String DECIMAL_1 = "23.45345";
+        private static final String DECIMAL_2 = "140.4565";
+        private static final String ADD_RESULT = "164";
+        private static final String MULTIPLY_RESULT = "3290";
+        private static final String DIVIDE_RESULT_1 = "0.168";
+        private static final String DIVIDE_RESULT_2 = "5.96";
+        private static final String SUBTRACT_RESULT = "-116";
+        private static final String NEGATE_RESULT = "-140";
+        private static final String RATIONAL_RESULT = "0.333";
+        private static final String FMA_RESULT = "9.98";
+        private static final String LARGE_DECIMAL = "123456780000000000";
+        private static final String SMALL_DECIMAL = "0.0000000012345678";
+        private static final String LARGE_ADD_RESULT = "123000000000000000";
+        private static final int MANTISSA = 3;
+
+        @Test
+        @DisplayName("Arithmetic on ScaledDecimal")
+        void arithmetic() {
+            // arrange
+            final var dec1 = new ScaledDecimal(DECIMAL_1, MANTISSA);
+            final var dec2 = new ScaledDecimal(DECIMAL_2, MANTISSA);
+
+            // act
+            final var sum = dec1.add(dec2);
+            final var product = dec1.multiply(dec2);
+            final var quotient1 = dec1.divide(dec2);
+            final var quotient2 = dec2.divide(dec1);
+
+            // assert
+            assertThat(sum).isEqualTo(dec2.add(dec1));
+            assertThat(product).isEqualTo(dec2.multiply(dec1));
+            assertThat(sum.toString()).isEqualTo(ADD_RESULT);
+            assertThat(product.toString()).isEqualTo(MULTIPLY_RESULT);
+            assertThat(quotient1.toString()).isEqualTo(DIVIDE_RESULT_1);
+            assertThat(quotient2.toString()).isEqualTo(DIVIDE_RESULT_2);
+            assertThat(quotient1.compareTo(quotient2)).isNegative();
+        }
+
+        @Test
+        @DisplayName("Field operations on ScaledDecimal")
+        void fieldOperations() {
+            // arrange
+            final var dec1 = new ScaledDecimal(DECIMAL_1, MANTISSA);
+            final var dec2 = new ScaledDecimal(DECIMAL_2, MANTISSA);
+
+            // act
+            final var difference = dec1.subtract(dec2);
+            final var negated = dec2.negate();
+            final var rational = dec1.fromRational(1, 3);
+
+            // assert
+            assertThat(difference.toString()).isEqualTo(SUBTRACT_RESULT);
+            assertThat(negated.toString()).isEqualTo(NEGATE_RESULT);
+            assertThat(rational.toString()).isEqualTo(RATIONAL_RESULT);
+            assertThat(dec1.fromLong(0)).isEqualTo(dec1.zero()).isEqualTo(new ScaledDecimal("0", MANTISSA));
+            assertThat(dec1.fromLong(1)).isEqualTo(dec1.one());
+            assertThat(dec1.minusOne().toString()).isEqualTo("-1");
+            assertThat(dec1.signum()).isPositive();
+            assertThat(negated.signum()).isNegative();
+            assertThat(dec1.subtract(dec1).isZero()).isTrue();
+            assertThat(dec1.toRounded()).isEqualTo(new RoundedDecimal(DECIMAL_1, MANTISSA));
+        }
+
+        @Test
+        @DisplayName("Fused multiply-add for ScaledDecimal")
+        void fusedMultiplyAdd() {
+            // arrange
+            final var addend = new ScaledDecimal("-0.001", MANTISSA);
+            final var factor = new ScaledDecimal("3.16", MANTISSA);
+
+            // act
+            final var fused = addend.fma(factor, factor);
+            final var separate = addend.add(factor.multiply(factor));
+
+            // assert
+            assertThat(fused.toString()).isEqualTo(FMA_RESULT);
+            assertThat(separate.toString()).isNotEqualTo(FMA_RESULT);
+            assertThat(factor.fromLong(2).fma(factor.fromLong(-3), new ScaledDecimal("0.667", MANTISSA)).isZero())
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("Fall back to RoundedDecimal on overflow")
+        void overflow() {
+            // arrange
+            final var large = new ScaledDecimal(LARGE_DECIMAL, MANTISSA);
+            final var small = new ScaledDecimal(SMALL_DECIMAL, MANTISSA);
+
+            // act
+            final var sum = large.add(small);
+            final var quotient = large.divide(small);
+
+            // assert
+            assertThat(sum.toString()).isEqualTo(LARGE_ADD_RESULT);
+            assertThat(sum.compareTo(large)).isZero();
+            assertThat(quotient.toRounded()).isEqualTo(large.toRounded().divide(small.toRounded()));
+            assertThat(large.fromLong(Long.MIN_VALUE).toRounded()).isEqualTo(
+                    new RoundedDecimal(String.valueOf(Long.MIN_VALUE), MANTISSA)
+            );
+        }
+
+        @Test
+        @DisplayName("Calculate with infinity for ScaledDecimal")
+        void calculateWithInfinity() {
+            // arrange
+            final var dec = new ScaledDecimal(DECIMAL_1, MANTISSA);
+            final var inf = dec.toInfinity(InfinityType.POSITIVE);
+            final var minf = dec.toInfinity(InfinityType.NEGATIVE);
+
+            // act
+            final var addInf = dec.add(inf);
+            final var addMinf = dec.add(minf);
+            final var multiplyInf = dec.multiply(inf);
+            final var divideMinf = minf.divide(dec);
+
+            // assert
+            assertThat(addInf).isEqualTo(multiplyInf);
+            assertThat(addMinf).isEqualTo(divideMinf);
+            assertThat(addInf.toString()).isEqualTo(INFINITY);
+            assertThat(addMinf.toString()).isEqualTo(MIN_INFINITY);
+            assertThat(addInf.compareTo(dec)).isPositive();
+        }
+    }
+
     @Nested
     @DisplayName("Calculations with Fraction")
     class FractionTest {
@@ -133,6 +367,24 @@ final class NumberTest {
         private static final String MULTIPLY_RESULT = "-644/585";
         private static final String DIVIDE_RESULT_1 = "-299/1260";
         private static final String DIVIDE_RESULT_2 = "-1260/299";
+        private static final String SUBTRACT_RESULT = "1559/585";
+        private static final String NEGATE_RESULT = "28/13";
+        private static final String FMA_RESULT = "39167/7605";
+        private static final String LARGE_FRACTION_1 = "1099511627776/3";
+        private static final String LARGE_FRACTION_2 = "-1099511627781/5";
+        private static final String LARGE_MULTIPLY_RESULT = "-402975273206708910948352/5";
+        private static final String LARGE_ADD_RESULT = "-1208925819614629174706176/15";
+        private static final String UNREDUCED_FRACTION = "9/23";
+        private static final String REDUCED_RESULT = "1/5";
+        private static final long REDUCED_NUMERATOR = 1;
+        private static final long REDUCED_DENOMINATOR = 5;
+        // cross products of these fractions exceed the long range
+        private static final String OVERFLOW_FRACTION_1 = "4611686018427387903/4611686018427387904";
+        private static final String OVERFLOW_FRACTION_2 = "4611686018427387902/4611686018427387903";
+        private static final String OVERFLOW_FRACTION_3 = "9223372036854775806/9223372036854775808";
+        // equal in the first 20 digits of their quotient
+        private static final String PRECISE_FRACTION_1 = "100000000000000000000001/300000000000000000000000";
+        private static final String PRECISE_FRACTION_2 = "100000000000000000000002/300000000000000000000000";
 
         @Test
         @DisplayName("Add two Fraction")
@@ -198,6 +450,184 @@ final class NumberTest {
             assertThat(result2.toString()).isEqualTo(DIVIDE_RESULT_2);
         }
 
+        @Test
+        @DisplayName("Calculate with Fraction exceeding the long range")
+        void calculateBeyondLong() {
+            // arrange
+            final var frac1 = new Fraction(LARGE_FRACTION_1);
+            final var frac2 = new Fraction(LARGE_FRACTION_2);
+
+            // act
+            final var product = frac1.multiply(frac2);
+            final var sum = product.add(frac1);
+            final var quotient = product.divide(frac2);
+
+            // assert
+            assertThat(product.toString()).isEqualTo(LARGE_MULTIPLY_RESULT);
+            assertThat(sum.toString()).isEqualTo(LARGE_ADD_RESULT);
+            assertThat(quotient).isEqualTo(frac1);
+            assertThat(quotient.toString()).isEqualTo(LARGE_FRACTION_1);
+            assertThat(product.compareTo(sum)).isNegative();
+        }
+
+        @Test
+        @DisplayName("Reduce Fraction lazily")
+        void reduceLazily() {
+            // arrange
+            final var frac1 = new Fraction(FRACTION_1);
+            final var frac2 = new Fraction(UNREDUCED_FRACTION);
+
+            // act
+            final var unreduced = frac1.multiply(frac2);
+            final var reduced = frac1.fromRational(REDUCED_NUMERATOR, REDUCED_DENOMINATOR);
+            final var large = Fraction.ofLazy(1L << Fraction.REDUCE_BITS, 2L << Fraction.REDUCE_BITS);
+
+            // assert
+            assertThat(unreduced.num()).isEqualTo(23L * 9);
+            assertThat(unreduced.denom()).isEqualTo(45L * 23);
+            assertThat(unreduced).isEqualTo(reduced).hasSameHashCodeAs(reduced);
+            assertThat(unreduced.compareTo(reduced)).isZero();
+            assertThat(unreduced.toString()).isEqualTo(REDUCED_RESULT);
+            assertThat(unreduced.getNumerator()).isEqualTo(BigInteger.valueOf(REDUCED_NUMERATOR));
+            assertThat(unreduced.getDenominator()).isEqualTo(BigInteger.valueOf(REDUCED_DENOMINATOR));
+            assertThat(large.num()).isEqualTo(1);
+            assertThat(large.denom()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Compare Fraction with products exceeding the long range")
+        void compareBeyondLong() {
+            // arrange
+            final var frac1 = new Fraction(OVERFLOW_FRACTION_1);
+            final var frac2 = new Fraction(OVERFLOW_FRACTION_2);
+            final var frac3 = new Fraction(OVERFLOW_FRACTION_3);
+
+            // act
+            final var difference = frac1.subtract(frac2);
+
+            // assert
+            assertThat(frac1.isSmall()).isTrue();
+            assertThat(frac2.isSmall()).isTrue();
+            assertThat(difference.isZero()).isFalse();
+            assertThat(frac1.compareTo(frac2)).isPositive();
+            assertThat(frac2.compareTo(frac1)).isNegative();
+            assertThat(frac1.negate().compareTo(frac2.negate())).isNegative();
+            assertThat(frac1.compareTo(frac3)).isZero();
+            assertThat(frac1).isEqualTo(frac3);
+        }
+
+        @Test
+        @DisplayName("Compare Fraction differing beyond the 20th digit")
+        void compareBeyondTwentyDigits() {
+            // arrange
+            final var frac1 = new Fraction(PRECISE_FRACTION_1);
+            final var frac2 = new Fraction(PRECISE_FRACTION_2);
+
+            // act
+            final var result1 = frac1.compareTo(frac2);
+            final var result2 = frac2.compareTo(frac1);
+
+            // assert
+            assertThat(result1).isNegative();
+            assertThat(result2).isPositive();
+            assertThat(frac1).isNotEqualTo(frac2);
+            assertThat(frac1.compareTo(new Fraction(PRECISE_FRACTION_1))).isZero();
+        }
+
+        @Test
+        @DisplayName("Field operations on Fraction")
+        void fieldOperations() {
+            // arrange
+            final var frac1 = new Fraction(FRACTION_1);
+            final var frac2 = new Fraction(FRACTION_2);
+
+            // act
+            final var difference = frac1.subtract(frac2);
+            final var negated = frac2.negate();
+            final var rational = frac1.fromRational(-46, -90);
+
+            // assert
+            assertThat(difference.toString()).isEqualTo(SUBTRACT_RESULT);
+            assertThat(negated.toString()).isEqualTo(NEGATE_RESULT);
+            assertThat(rational).isEqualTo(frac1);
+            assertThat(frac1.fromLong(0)).isEqualTo(frac1.zero()).isEqualTo(new Fraction("0"));
+            assertThat(frac1.fromLong(1)).isEqualTo(frac1.one());
+            assertThat(frac1.minusOne().toString()).isEqualTo("-1");
+            assertThat(frac1.signum()).isPositive();
+            assertThat(frac2.signum()).isNegative();
+            assertThat(frac1.zero().isZero()).isTrue();
+            assertThat(frac1.subtract(frac1).isZero()).isTrue();
+            assertThat(frac1.toInfinity(InfinityType.POSITIVE).negate().toString()).isEqualTo(MIN_INFINITY);
+        }
+
+        @Test
+        @DisplayName("Fused multiply-add for Fraction")
+        void fusedMultiplyAdd() {
+            // arrange
+            final var frac1 = new Fraction(FRACTION_1);
+            final var frac2 = new Fraction(FRACTION_2);
+            final var large1 = new Fraction(LARGE_FRACTION_1);
+            final var large2 = new Fraction(LARGE_FRACTION_2);
+
+            // act
+            final var fused = frac1.fma(frac2, frac2);
+            final var largeFused = large1.fma(large2, large2);
+
+            // assert
+            assertThat(fused.toString()).isEqualTo(FMA_RESULT);
+            assertThat(largeFused).isEqualTo(large1.add(large2.multiply(large2)));
+            assertThat(frac1.fma(frac1.zero(), frac2)).isEqualTo(frac1);
+            assertThat(frac1.fma(frac1.toInfinity(InfinityType.POSITIVE), frac1).toString()).isEqualTo(INFINITY);
+        }
+
+        @Test
+        @DisplayName("Accumulate in place for Fraction")
+        void accumulate() {
+            // arrange
+            final var frac1 = new Fraction(FRACTION_1);
+            final var frac2 = new Fraction(FRACTION_2);
+            final var large1 = new Fraction(LARGE_FRACTION_1);
+            final var large2 = new Fraction(LARGE_FRACTION_2);
+            final var accumulator = frac1.accumulator();
+
+            // act
+            accumulator.set(frac1);
+            accumulator.addProduct(frac2, frac2);
+            final var fused = accumulator.snapshot();
+            accumulator.addProduct(large1, large2);
+            final var overflow = accumulator.snapshot();
+            accumulator.set(frac1);
+            accumulator.addProduct(frac1.minusOne(), frac1);
+
+            // assert
+            assertThat(accumulator).isInstanceOf(MutableFraction.class);
+            assertThat(fused.toString()).isEqualTo(FMA_RESULT);
+            assertThat(overflow).isEqualTo(fused.add(large1.multiply(large2)));
+            assertThat(accumulator.snapshot()).isSameAs(frac1.zero());
+        }
+
+        @Test
+        @DisplayName("Share small Fraction instances")
+        void intern() {
+            // arrange
+            final var frac = new Fraction(FRACTION_1);
+            final var large = new Fraction(LARGE_FRACTION_1);
+
+            // act
+            final var half = frac.create("1/2");
+            final var sum = frac.create("1/4").add(frac.create("1/4"));
+            final var difference = frac.subtract(frac);
+
+            // assert
+            assertThat(sum).isSameAs(half).isSameAs(frac.create("2/4"));
+            assertThat(difference).isSameAs(frac.zero());
+            assertThat(frac.one().negate()).isSameAs(frac.minusOne());
+            assertThat(frac.fromLong(1)).isSameAs(frac.one());
+            assertThat(large.add(frac.zero())).isNotSameAs(large.add(frac.zero())).isEqualTo(large);
+            assertThat(new Fraction().isZero()).isTrue();
+            assertThat(frac.toInfinity(InfinityType.POSITIVE).isZero()).isFalse();
+        }
+
         @Test
         @DisplayName("Calculate with infinity for RoundedDecimal")
         void calculateWithInfinity() {
@@ -228,4 +658,277 @@ final class NumberTest {
             assertThat(addMinf.toString()).isEqualTo(MIN_INFINITY);
         }
     }
+
+    @Nested
+    @DisplayName("Calculations with FloatingPoint")
+    class FloatingPointTest {
+        private static final String DECIMAL_1 = "23.45345";
+        private static final String DECIMAL_2 = "140.4565";
+        private static final String ADD_RESULT = "163.90995";
+        private static final String MULTIPLY_RESULT = "3294.1895";
+        private static final String DIVIDE_RESULT_1 = "0.1669801682";
+        private static final String DIVIDE_RESULT_2 = "5.988735133";
+        private static final String SUBTRACT_RESULT = "-117.00305";
+        private static final String NEGATE_RESULT = "-140.4565";
+        private static final String RATIONAL_RESULT = "0.25";
+        private static final String FMA_RESULT = "19751.48184";
+        private static final FloatingPoint.Tolerance TOLERANCE = FloatingPoint.Tolerance.DEFAULT;
+
+        @Test
+        @DisplayName("Add two FloatingPoint")
+        void add() {
+            // arrange
+            final var float1 = new FloatingPoint(DECIMAL_1, TOLERANCE);
+            final var float2 = new FloatingPoint(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var result1 = float1.add(float2);
+            final var result2 = float2.add(float1);
+
+            // assert
+            assertThat(result1).isNotNull();
+            assertThat(result1.isInfinite()).isFalse();
+            assertThat(result2).isNotNull();
+            assertThat(result2.isInfinite()).isFalse();
+
+            assertThat(result1).isEqualTo(result2);
+            assertThat(result1.toString()).isEqualTo(ADD_RESULT);
+        }
+
+        @Test
+        @DisplayName("Multiply two FloatingPoint")
+        void multiply() {
+            // arrange
+            final var float1 = new FloatingPoint(DECIMAL_1, TOLERANCE);
+            final var float2 = new FloatingPoint(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var result1 = float1.multiply(float2);
+            final var result2 = float2.multiply(float1);
+
+            // assert
+            assertThat(result1).isNotNull();
+            assertThat(result1.isInfinite()).isFalse();
+            assertThat(result2).isNotNull();
+            assertThat(result2.isInfinite()).isFalse();
+
+            assertThat(result1).isEqualTo(result2);
+            assertThat(result1.toString()).isEqualTo(MULTIPLY_RESULT);
+        }
+
+        @Test
+        @DisplayName("Divide two FloatingPoint")
+        void divide() {
+            // arrange
+            final var float1 = new FloatingPoint(DECIMAL_1, TOLERANCE);
+            final var float2 = new FloatingPoint(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var result1 = float1.divide(float2);
+            final var result2 = float2.divide(float1);
+
+            // assert
+            assertThat(result1).isNotNull();
+            assertThat(result1.isInfinite()).isFalse();
+            assertThat(result2).isNotNull();
+            assertThat(result2.isInfinite()).isFalse();
+
+            assertThat(result1).isNotEqualTo(result2);
+            assertThat(result1.toString()).isEqualTo(DIVIDE_RESULT_1);
+            assertThat(result2.toString()).isEqualTo(DIVIDE_RESULT_2);
+        }
+
+        @Test
+        @DisplayName("Compare FloatingPoint within tolerance")
+        void compareWithTolerance() {
+            // arrange
+            final var third = new FloatingPoint("1/3", TOLERANCE);
+            final var zero = new FloatingPoint(TOLERANCE);
+
+            // act
+            final var roundTrip = third.add(third).add(third).add(new FloatingPoint("-1", TOLERANCE));
+            final var tiny = new FloatingPoint("0.0000000001", TOLERANCE);
+            final var small = new FloatingPoint("0.000001", TOLERANCE);
+
+            // assert
+            assertThat(roundTrip).isEqualTo(zero);
+            assertThat(roundTrip.compareTo(zero)).isZero();
+            assertThat(tiny.compareTo(zero)).isZero();
+            assertThat(tiny.toString()).isEqualTo("0");
+            assertThat(small.compareTo(zero)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Field operations on FloatingPoint")
+        void fieldOperations() {
+            // arrange
+            final var float1 = new FloatingPoint(DECIMAL_1, TOLERANCE);
+            final var float2 = new FloatingPoint(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var difference = float1.subtract(float2);
+            final var negated = float2.negate();
+            final var rational = float1.fromRational(1, 4);
+
+            // assert
+            assertThat(difference.toString()).isEqualTo(SUBTRACT_RESULT);
+            assertThat(negated.toString()).isEqualTo(NEGATE_RESULT);
+            assertThat(rational.toString()).isEqualTo(RATIONAL_RESULT);
+            assertThat(float1.fromLong(0)).isEqualTo(float1.zero());
+            assertThat(float1.fromLong(1)).isEqualTo(float1.one());
+            assertThat(float1.minusOne().toString()).isEqualTo("-1");
+            assertThat(float1.signum()).isPositive();
+            assertThat(negated.signum()).isNegative();
+            assertThat(float1.subtract(float1).isZero()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Fused multiply-add for FloatingPoint")
+        void fusedMultiplyAdd() {
+            // arrange
+            final var float1 = new FloatingPoint(DECIMAL_1, TOLERANCE);
+            final var float2 = new FloatingPoint(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var fused = float1.fma(float2, float2);
+
+            // assert
+            assertThat(fused.toString()).isEqualTo(FMA_RESULT);
+            assertThat(fused).isEqualTo(float1.add(float2.multiply(float2)));
+        }
+
+        @Test
+        @DisplayName("Calculate with infinity for FloatingPoint")
+        void calculateWithInfinity() {
+            // arrange
+            final var number = new FloatingPoint(DECIMAL_1, TOLERANCE);
+            final var inf = number.toInfinity(InfinityType.POSITIVE);
+            final var minf = number.toInfinity(InfinityType.NEGATIVE);
+
+            // act
+            final var addInf = number.add(inf);
+            final var addMinf = number.add(minf);
+            final var multiplyInf = number.multiply(inf);
+            final var multiplyMinf = minf.multiply(number);
+            final var divideInf = inf.divide(number);
+            final var divideMinf = minf.divide(number);
+
+            // assert
+            assertThat(addInf).isNotNull();
+            assertThat(addMinf).isNotNull();
+            assertThat(multiplyInf).isNotNull();
+            assertThat(multiplyMinf).isNotNull();
+            assertThat(divideInf).isNotNull();
+            assertThat(divideMinf).isNotNull();
+
+            assertThat(addInf).isEqualTo(multiplyInf).isEqualTo(divideInf);
+            assertThat(addMinf).isEqualTo(multiplyMinf).isEqualTo(divideMinf);
+            assertThat(addInf.toString()).isEqualTo(INFINITY);
+            assertThat(addMinf.toString()).isEqualTo(MIN_INFINITY);
+            assertThat(inf.compareTo(number)).isPositive();
+            assertThat(minf.compareTo(number)).isNegative();
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with DoubleDouble")
+    class DoubleDoubleTest {
+        private static final String DECIMAL_1 = "23.45345";
+        private static final String DECIMAL_2 = "140.4565";
+        private static final String ADD_RESULT = "163.90995";
+        private static final String MULTIPLY_RESULT = "3294.189499925";
+        private static final String DIVIDE_RESULT_1 = "0.166980168237141036548682332252";
+        private static final String DIVIDE_RESULT_2 = "5.98873513278430252265658144111";
+        private static final String SUBTRACT_RESULT = "-117.00305";
+        private static final String RATIONAL_RESULT = "0.142857142857142857142857142857";
+        private static final String FMA_RESULT = "19751.48184225";
+        private static final FloatingPoint.Tolerance TOLERANCE = DoubleDouble.DEFAULT_TOLERANCE;
+
+        @Test
+        @DisplayName("Arithmetic on DoubleDouble")
+        void arithmetic() {
+            // arrange
+            final var dd1 = new DoubleDouble(DECIMAL_1, TOLERANCE);
+            final var dd2 = new DoubleDouble(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var sum = dd1.add(dd2);
+            final var product = dd1.multiply(dd2);
+            final var quotient1 = dd1.divide(dd2);
+            final var quotient2 = dd2.divide(dd1);
+
+            // assert
+            assertThat(sum).isEqualTo(dd2.add(dd1));
+            assertThat(product).isEqualTo(dd2.multiply(dd1));
+            assertThat(sum.toString()).isEqualTo(ADD_RESULT);
+            assertThat(product.toString()).isEqualTo(MULTIPLY_RESULT);
+            assertThat(quotient1.toString()).isEqualTo(DIVIDE_RESULT_1);
+            assertThat(quotient2.toString()).isEqualTo(DIVIDE_RESULT_2);
+            assertThat(quotient1.multiply(quotient2)).isEqualTo(dd1.one());
+        }
+
+        @Test
+        @DisplayName("Compare DoubleDouble beyond double precision")
+        void compareBeyondDouble() {
+            // arrange
+            final var third = new DoubleDouble("1/3", TOLERANCE);
+            final var zero = new DoubleDouble(TOLERANCE);
+            final var one = third.one();
+
+            // act
+            final var roundTrip = third.add(third).add(third).subtract(one);
+            final var nearOne = one.add(new DoubleDouble("0.00000000000000000001", TOLERANCE));
+
+            // assert
+            assertThat(roundTrip).isEqualTo(zero);
+            assertThat(roundTrip.isZero()).isTrue();
+            assertThat(nearOne.compareTo(one)).isPositive();
+            assertThat(nearOne.toString()).isEqualTo("1.00000000000000000001");
+            assertThat(new FloatingPoint(nearOne.doubleValue(), FloatingPoint.Tolerance.DEFAULT))
+                    .isEqualTo(new FloatingPoint(1, FloatingPoint.Tolerance.DEFAULT));
+        }
+
+        @Test
+        @DisplayName("Field operations on DoubleDouble")
+        void fieldOperations() {
+            // arrange
+            final var dd1 = new DoubleDouble(DECIMAL_1, TOLERANCE);
+            final var dd2 = new DoubleDouble(DECIMAL_2, TOLERANCE);
+
+            // act
+            final var difference = dd1.subtract(dd2);
+            final var rational = dd1.fromRational(1, 7);
+            final var fused = dd1.fma(dd2, dd2);
+
+            // assert
+            assertThat(difference.toString()).isEqualTo(SUBTRACT_RESULT);
+            assertThat(rational.toString()).isEqualTo(RATIONAL_RESULT);
+            assertThat(fused.toString()).isEqualTo(FMA_RESULT);
+            assertThat(dd1.fromLong(Long.MAX_VALUE).toString()).isEqualTo(String.valueOf(Long.MAX_VALUE));
+            assertThat(dd1.fromLong(0)).isEqualTo(dd1.zero());
+            assertThat(dd1.fromLong(-1)).isEqualTo(dd1.minusOne());
+            assertThat(dd2.negate().signum()).isNegative();
+            assertThat(dd1.subtract(dd1).isZero()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Calculate with infinity for DoubleDouble")
+        void calculateWithInfinity() {
+            // arrange
+            final var number = new DoubleDouble(DECIMAL_1, TOLERANCE);
+            final var inf = number.toInfinity(InfinityType.POSITIVE);
+            final var minf = number.toInfinity(InfinityType.NEGATIVE);
+
+            // act
+            final var addInf = number.add(inf);
+            final var multiplyMinf = minf.multiply(number);
+            final var divideInf = inf.divide(number);
+
+            // assert
+            assertThat(addInf).isEqualTo(divideInf);
+            assertThat(addInf.toString()).isEqualTo(INFINITY);
+            assertThat(multiplyMinf.toString()).isEqualTo(MIN_INFINITY);
+            assertThat(minf.compareTo(number)).isNegative();
+        }
+    }
 }
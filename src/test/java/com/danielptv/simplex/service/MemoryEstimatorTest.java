@@ -0,0 +1,110 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.DenseTableau;
+import com.danielptv.simplex.entity.PrimitiveTableau;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.SparseTableau;
+import com.danielptv.simplex.entity.TableauStorage;
+import com.danielptv.simplex.number.CalculableImpl;
+import com.danielptv.simplex.number.FloatingPoint;
+import com.danielptv.simplex.number.Fraction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.danielptv.simplex.service.SimplexEngineTest.OPTIMAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@Tag("service")
+@DisplayName("Memory Estimator Test")
+final class MemoryEstimatorTest {
+    private static final int SIZE = 20;
+
+    // every constraint bounds a single variable, xi ≤ i
+    private static List<List<String>> sparseConstraints() {
+        final var result = new ArrayList<List<String>>();
+        for (int row = 0; row < SIZE; ++row) {
+            final var constraint = new ArrayList<>(Collections.nCopies(SIZE, "0"));
+            constraint.set(row, "1");
+            constraint.add(String.valueOf(row + 1));
+            constraint.add("<");
+            result.add(constraint);
+        }
+        return result;
+    }
+
+    private static <T extends CalculableImpl<T>> SimplexTable<T> build(
+            final T generator,
+            final List<String> objectiveFunction,
+            final List<List<String>> constraints
+    ) {
+        final var buildService = new TableBuildService<>(
+                generator,
+                objectiveFunction.size(),
+                constraints.size(),
+                false,
+                new TableCalcService<>(generator)
+        );
+        return buildService.build(objectiveFunction, constraints);
+    }
+
+    @Test
+    @DisplayName("Store tables with many non-zero entries dense")
+    void dense() {
+        // act
+        final var estimate = new MemoryEstimator<>(new Fraction(), 2, OPTIMAL.constraints().size())
+                .estimate(OPTIMAL.constraints());
+
+        // assert
+        // 12 coefficients and right-hand sides and one slack variable per constraint
+        assertThat(estimate.nonZeros()).isEqualTo(17);
+        assertThat(estimate.storage()).isEqualTo(TableauStorage.DENSE);
+        assertThat(estimate.checkpointInterval()).isEqualTo(8);
+        assertThat(estimate.tableBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Store tables with few non-zero entries sparse")
+    void sparse() {
+        // act
+        final var fractions = new MemoryEstimator<>(new Fraction(), SIZE, SIZE).estimate(sparseConstraints());
+        final var floats = new MemoryEstimator<>(new FloatingPoint(), SIZE, SIZE).estimate(sparseConstraints());
+
+        // assert
+        assertThat(fractions.nonZeros()).isEqualTo(3 * SIZE);
+        assertThat(fractions.storage()).isEqualTo(TableauStorage.SPARSE);
+        assertThat(floats.storage()).isEqualTo(TableauStorage.SPARSE);
+        assertThat(floats.tableBytes()).isLessThan(fractions.tableBytes());
+    }
+
+    @Test
+    @DisplayName("Store dense tables of floating point numbers as primitives")
+    void primitive() {
+        // act
+        final var estimate = new MemoryEstimator<>(new FloatingPoint(), 2, OPTIMAL.constraints().size())
+                .estimate(OPTIMAL.constraints());
+
+        // assert
+        assertThat(estimate.storage()).isEqualTo(TableauStorage.PRIMITIVE);
+        assertThat(estimate.tableBytes()).isEqualTo(6L * 8 * Double.BYTES);
+    }
+
+    @Test
+    @DisplayName("Build tables with the estimated storage")
+    void build() {
+        // act
+        final var dense = build(new Fraction(), OPTIMAL.objectiveFunction(), OPTIMAL.constraints());
+        final var sparse = build(new Fraction(), Collections.nCopies(SIZE, "1"), sparseConstraints());
+        final var primitive = build(new FloatingPoint(), OPTIMAL.objectiveFunction(), OPTIMAL.constraints());
+
+        // assert
+        assertThat(dense.tableau()).isInstanceOf(DenseTableau.class);
+        assertThat(sparse.tableau()).isInstanceOf(SparseTableau.class);
+        assertThat(primitive.tableau()).isInstanceOf(PrimitiveTableau.class);
+    }
+}
@@ -0,0 +1,490 @@
+package com.danielptv.simplex.service;
+
+import com.danielptv.simplex.entity.Phase;
+import com.danielptv.simplex.entity.SimplexResult;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.TableauStorage;
+import com.danielptv.simplex.number.Fraction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.danielptv.simplex.entity.SpecialSolutionType.INFEASIBLE;
+import static com.danielptv.simplex.entity.SpecialSolutionType.UNBOUNDED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@Tag("service")
+@DisplayName("Simplex Engines Test")
+final class SimplexEngineTest {
+    // example of the README, the optimum is f(x) = 10000 for x1 = 1000 and x2 = 1000
+    static final Problem OPTIMAL = new Problem(false, List.of("6", "4"), List.of(
+            List.of("1", "2", "3000", "<"),
+            List.of("2", "1", "3000", "<"),
+            List.of("1", "0", "1100", "<"),
+            List.of("0", "1", "1200", "<"),
+            List.of("1", "0", "500", ">")
+    ));
+    static final Problem TWO_PHASE = new Problem(true, List.of("2", "3"), List.of(
+            List.of("1", "1", "4", ">"),
+            List.of("1", "3", "6", ">")
+    ));
+    static final Problem INFEASIBLE_PROBLEM = new Problem(false, List.of("1", "1"), List.of(
+            List.of("1", "1", "2", "<"),
+            List.of("1", "1", "3", ">")
+    ));
+    static final Problem UNBOUNDED_PROBLEM = new Problem(false, List.of("1", "1"), List.of(
+            List.of("1", "-1", "2", "<")
+    ));
+    // the entering column of the initial table has no positive entry
+    static final Problem INITIALLY_UNBOUNDED = new Problem(false, List.of("1", "0"), List.of(
+            List.of("-1", "1", "1", "<")
+    ));
+    static final List<Problem> PROBLEMS = List.of(OPTIMAL, TWO_PHASE, INFEASIBLE_PROBLEM, UNBOUNDED_PROBLEM);
+    private static final Fraction GENERATOR = new Fraction();
+
+    private SimplexEngineTest() {
+
+    }
+
+    static List<Phase<Fraction>> calc(
+            final Function<TwoPhaseSimplex<Fraction>, SimplexEngine<Fraction>> engine,
+            final Problem problem
+    ) {
+        return engine.apply(TwoPhaseSimplex.of(GENERATOR)).calc(problem.build(GENERATOR));
+    }
+
+    static SimplexResult<Fraction> solve(
+            final Function<TwoPhaseSimplex<Fraction>, SimplexEngine<Fraction>> engine,
+            final Problem problem
+    ) {
+        return engine.apply(TwoPhaseSimplex.of(GENERATOR)).solve(problem.build(GENERATOR));
+    }
+
+    // compares an engine with the tableau engine on fractions
+    static void assertSameResult(
+            final Function<TwoPhaseSimplex<Fraction>, SimplexEngine<Fraction>> engine,
+            final Problem problem
+    ) {
+        final var expected = solve(simplex -> simplex, problem);
+        final var result = solve(engine, problem);
+        final var phases = calc(engine, problem);
+        final var lastPhase = phases.get(phases.size() - 1);
+        final var lastResult = SimplexResult.of(lastPhase.getLastTable(), lastPhase.specialSolutionType());
+
+        assertThat(result.specialSolutionType()).isEqualTo(expected.specialSolutionType());
+        assertThat(lastResult.specialSolutionType()).isEqualTo(expected.specialSolutionType());
+        if (expected.specialSolutionType() == null) {
+            assertThat(result.objectiveValue()).isEqualTo(expected.objectiveValue());
+            assertThat(result.variableValues()).isEqualTo(expected.variableValues());
+            assertThat(lastResult.objectiveValue()).isEqualTo(expected.objectiveValue());
+            assertThat(lastResult.variableValues()).isEqualTo(expected.variableValues());
+        }
+    }
+
+    @SuppressWarnings("ClassMemberImpliedModifier")
+    record Problem(boolean minimize, List<String> objectiveFunction, List<List<String>> constraints) {
+        SimplexTable<Fraction> build(final Fraction generator) {
+            return build(generator, TableauStorage.DENSE);
+        }
+
+        // constraints on a single variable are kept as bounds
+        SimplexTable<Fraction> buildBounded(final Fraction generator) {
+            final var bounds = TableBuildService.getBounds(constraints, generator);
+            final var rows = constraints.stream().filter(constraint -> !bounds.contains(constraint)).toList();
+            final var buildService = new TableBuildService<>(
+                    generator,
+                    objectiveFunction.size(),
+                    rows.size(),
+                    minimize,
+                    new TableCalcService<>(generator)
+            );
+            return buildService.build(objectiveFunction, rows, bounds, TableauStorage.DENSE);
+        }
+
+        SimplexTable<Fraction> build(final Fraction generator, final TableauStorage storage) {
+            final var buildService = new TableBuildService<>(
+                    generator,
+                    objectiveFunction.size(),
+                    constraints.size(),
+                    minimize,
+                    new TableCalcService<>(generator)
+            );
+            return buildService.build(objectiveFunction, constraints, storage);
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with TwoPhaseSimplex")
+    class TwoPhaseSimplexTest {
+        @Test
+        @DisplayName("Solve the README example with TwoPhaseSimplex")
+        void optimal() {
+            // act
+            final var result = solve(simplex -> simplex, OPTIMAL);
+
+            // assert
+            assertThat(result.specialSolutionType()).isNull();
+            assertThat(result.objectiveValue()).isEqualTo(new Fraction("10000"));
+            assertThat(result.variableValues()).containsExactly(new Fraction("1000"), new Fraction("1000"));
+        }
+
+        @Test
+        @DisplayName("Detect special problems with TwoPhaseSimplex")
+        void specialSolutions() {
+            // act
+            final var twoPhase = calc(simplex -> simplex, TWO_PHASE);
+            final var infeasible = solve(simplex -> simplex, INFEASIBLE_PROBLEM);
+            final var unbounded = solve(simplex -> simplex, UNBOUNDED_PROBLEM);
+
+            // assert
+            assertThat(twoPhase).hasSize(2);
+            assertThat(twoPhase.get(1).specialSolutionType()).isNull();
+            assertThat(twoPhase.get(1).getLastTable().rHS().get(0)).isEqualTo(new Fraction("-9"));
+            assertThat(infeasible.specialSolutionType()).isEqualTo(INFEASIBLE);
+            assertThat(unbounded.specialSolutionType()).isEqualTo(UNBOUNDED);
+        }
+
+        @Test
+        @DisplayName("Solve problems with TwoPhaseSimplex without keeping the tables")
+        void solveResultOnly() {
+            PROBLEMS.forEach(problem -> {
+                // act
+                final var result = solve(simplex -> simplex, problem);
+                final var phases = calc(simplex -> simplex, problem);
+                final var lastPhase = phases.get(phases.size() - 1);
+
+                // assert
+                assertThat(result).isEqualTo(SimplexResult.of(lastPhase.getLastTable(), lastPhase.specialSolutionType()));
+            });
+            assertThat(solve(simplex -> simplex, OPTIMAL).basis()).contains(0, 1).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("Keep rows with a zero in the pivot column with TwoPhaseSimplex")
+        void skipRows() {
+            // arrange
+            final var problem = new Problem(false, OPTIMAL.objectiveFunction(), OPTIMAL.constraints().subList(0, 4));
+            final var table = problem.build(GENERATOR);
+
+            // act
+            final var result = TwoPhaseSimplex.of(GENERATOR).transform(table);
+
+            // assert
+            // x1 enters in row 3, the constraint x2 ≤ 1200 in row 4 has no x1
+            assertThat(table.pivot().column()).isZero();
+            assertThat(table.pivot().row()).isEqualTo(3);
+            for (int column = 0; column <= table.columns(); ++column) {
+                assertThat(result.tableau().get(4, column)).isSameAs(table.tableau().get(4, column));
+            }
+            assertThat(result.tableau().getRhs(1)).isEqualTo(new Fraction("1900"));
+            assertThat(result.tableau().getRhs(2)).isEqualTo(new Fraction("800"));
+            assertThat(result.tableau().getRhs(0)).isEqualTo(new Fraction("6600"));
+            assertThat(table.tableau().getRhs(0)).isEqualTo(new Fraction("0"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with bounded variables")
+    class BoundedTest {
+        // the bounded table gives the same result as the table with the bounds as rows
+        private List<Phase<Fraction>> assertSameBoundedResult(final Problem problem) {
+            final var expected = solve(simplex -> simplex, problem);
+            final var phases = TwoPhaseSimplex.of(GENERATOR).calc(problem.buildBounded(GENERATOR));
+            final var lastPhase = phases.get(phases.size() - 1);
+            final var result = SimplexResult.of(lastPhase.getLastTable(), lastPhase.specialSolutionType());
+            final var solved = TwoPhaseSimplex.of(GENERATOR).solve(problem.buildBounded(GENERATOR));
+
+            assertThat(result.specialSolutionType()).isEqualTo(expected.specialSolutionType());
+            assertThat(solved.specialSolutionType()).isEqualTo(expected.specialSolutionType());
+            if (expected.specialSolutionType() == null) {
+                assertThat(result.objectiveValue()).isEqualTo(expected.objectiveValue());
+                assertThat(result.variableValues()).isEqualTo(expected.variableValues());
+                assertThat(solved.variableValues()).isEqualTo(expected.variableValues());
+            }
+            return phases;
+        }
+
+        @Test
+        @DisplayName("Start equations with a right-hand side of zero with a helper variable")
+        void zeroEquation() {
+            // arrange
+            final var problem = new Problem(false, List.of("-1", "0", "6", "-2"), List.of(
+                    List.of("5", "-2", "3", "-2", "7", ">"),
+                    List.of("-2", "6", "5", "2", "9", "<"),
+                    List.of("5", "5", "2", "6", "10", "="),
+                    List.of("1", "0", "0", "0", "1", ">"),
+                    List.of("0", "1", "0", "0", "1", ">"),
+                    List.of("0", "1", "0", "0", "5", "<"),
+                    List.of("0", "0", "0", "1", "2", "<")
+            ));
+
+            // act
+            final var table = problem.buildBounded(GENERATOR);
+            final var phases = assertSameBoundedResult(problem);
+
+            // assert
+            // the lower bounds of x1 and x2 shift the right-hand side of the equation to zero
+            assertThat(table.rHS().get(3).isZero()).isTrue();
+            assertThat(table.basis()[3]).isGreaterThanOrEqualTo(table.columns());
+            assertThat(phases.get(phases.size() - 1).specialSolutionType()).isEqualTo(INFEASIBLE);
+        }
+
+        @Test
+        @DisplayName("Detect an unbounded initial table of phase 2 with bounded variables")
+        void initiallyUnbounded() {
+            // arrange
+            final var problem = new Problem(true, List.of("-3", "-3"), List.of(
+                    List.of("-1", "-1", "-2", "<"),
+                    List.of("0", "5", "19", "<"),
+                    List.of("1", "0", "3", ">")
+            ));
+
+            // act
+            final var phases = assertSameBoundedResult(problem);
+
+            // assert
+            assertThat(phases.get(phases.size() - 1).specialSolutionType()).isEqualTo(UNBOUNDED);
+        }
+
+        @Test
+        @DisplayName("Detect an infeasible initial table of phase 1 with bounded variables")
+        void initiallyInfeasible() {
+            // arrange
+            final var problem = new Problem(false, List.of("5", "4"), List.of(
+                    List.of("0", "1", "0", "<"),
+                    List.of("0", "1", "0", ">"),
+                    List.of("1", "0", "6", "<"),
+                    List.of("6", "6", "0", "="),
+                    List.of("1", "0", "3", ">")
+            ));
+
+            // act
+            final var phases = assertSameBoundedResult(problem);
+
+            // assert
+            assertThat(phases).hasSize(1);
+            assertThat(phases.get(0).specialSolutionType()).isEqualTo(INFEASIBLE);
+        }
+
+        @Test
+        @DisplayName("Flip a variable to its upper bound without a pivot row")
+        void boundFlip() {
+            // arrange
+            final var problem = new Problem(false, List.of("1", "1"), List.of(
+                    List.of("1", "1", "10", "<"),
+                    List.of("1", "0", "3", "<"),
+                    List.of("0", "1", "4", "<")
+            ));
+
+            // act
+            final var phases = assertSameBoundedResult(problem);
+            final var result = solve(simplex -> simplex, problem);
+
+            // assert
+            assertThat(phases.get(0).tables()).anyMatch(table -> table.pivot().row() < 0);
+            assertThat(result.objectiveValue()).isEqualTo(new Fraction("7"));
+        }
+
+        @Test
+        @DisplayName("Complement a basic variable that leaves at its upper bound")
+        void complementedLeaving() {
+            // arrange
+            final var problem = new Problem(false, List.of("0", "1"), List.of(
+                    List.of("-1", "1", "1", "<"),
+                    List.of("1", "0", "20", "<"),
+                    List.of("0", "1", "10", "<")
+            ));
+
+            // act
+            final var phases = assertSameBoundedResult(problem);
+            final var lastTable = phases.get(0).getLastTable();
+
+            // assert
+            // the negative pivot value marks a basic variable that leaves at its upper bound
+            assertThat(phases.get(0).tables()).anyMatch(table -> table.pivot().value().signum() < 0);
+            assertThat(lastTable.bounds().isComplemented(1)).isTrue();
+            assertThat(SimplexResult.of(lastTable, null).variableValues().get(1)).isEqualTo(new Fraction("10"));
+        }
+
+        @Test
+        @DisplayName("Shift variables by their lower bounds")
+        void lowerBounds() {
+            // arrange
+            final var problem = new Problem(false, List.of("-2", "-1"), List.of(
+                    List.of("1", "1", "4", ">"),
+                    List.of("1", "0", "1", ">"),
+                    List.of("0", "1", "2", ">")
+            ));
+
+            // act
+            final var table = problem.buildBounded(GENERATOR);
+            final var result = TwoPhaseSimplex.of(GENERATOR).solve(table);
+
+            // assert
+            assertThat(table.rows()).isEqualTo(2);
+            assertThat(table.rHS().get(1)).isEqualTo(new Fraction("-1"));
+            assertThat(result.objectiveValue()).isEqualTo(new Fraction("-5"));
+            assertThat(result.variableValues()).containsExactly(new Fraction("1"), new Fraction("3"));
+            assertSameBoundedResult(problem);
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with ModularSimplex")
+    class ModularSimplexTest {
+        @Test
+        @DisplayName("Solve problems with ModularSimplex like TwoPhaseSimplex")
+        void sameResult() {
+            PROBLEMS.forEach(problem -> assertSameResult(ModularSimplex::new, problem));
+        }
+
+        @Test
+        @DisplayName("Keep the initial and the last table of each phase with ModularSimplex")
+        void phases() {
+            // act
+            final var phases = calc(ModularSimplex::new, TWO_PHASE);
+
+            // assert
+            assertThat(phases).hasSize(2);
+            assertThat(phases.get(0).singlePhase()).isFalse();
+            assertThat(phases.get(0).tables()).hasSize(2);
+            assertThat(phases.get(0).getLastTable().helperColumns()).isPositive();
+            assertThat(phases.get(1).tables()).hasSizeLessThanOrEqualTo(2);
+            assertThat(phases.get(1).getLastTable().helperColumns()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with RevisedSimplex")
+    class RevisedSimplexTest {
+        @Test
+        @DisplayName("Solve problems with RevisedSimplex like TwoPhaseSimplex")
+        void sameResult() {
+            PROBLEMS.forEach(problem -> assertSameResult(RevisedSimplex::new, problem));
+        }
+
+        @Test
+        @DisplayName("Solve sparse tables with RevisedSimplex")
+        void sparse() {
+            PROBLEMS.forEach(problem -> {
+                // act
+                final var expected = solve(simplex -> simplex, problem);
+                final var phases = new RevisedSimplex<>(TwoPhaseSimplex.of(GENERATOR))
+                        .calc(problem.build(GENERATOR, TableauStorage.SPARSE));
+                final var lastPhase = phases.get(phases.size() - 1);
+
+                // assert
+                assertThat(lastPhase.specialSolutionType()).isEqualTo(expected.specialSolutionType());
+                assertThat(lastPhase.getLastTable().rHS().get(0)).isEqualTo(expected.objectiveValue());
+            });
+        }
+
+        @Test
+        @DisplayName("Detect an unbounded initial table with RevisedSimplex and ModularSimplex")
+        void initiallyUnbounded() {
+            // act
+            final var revised = calc(RevisedSimplex::new, INITIALLY_UNBOUNDED);
+            final var modular = calc(ModularSimplex::new, INITIALLY_UNBOUNDED);
+
+            // assert
+            assertThat(revised).hasSize(1);
+            assertThat(revised.get(0).specialSolutionType()).isEqualTo(UNBOUNDED);
+            assertThat(revised.get(0).tables()).hasSize(1);
+            assertThat(modular.get(0).specialSolutionType()).isEqualTo(UNBOUNDED);
+            assertSameResult(RevisedSimplex::new, INITIALLY_UNBOUNDED);
+            assertSameResult(ModularSimplex::new, INITIALLY_UNBOUNDED);
+        }
+
+        @Test
+        @DisplayName("Keep the initial and the last table of each phase with RevisedSimplex")
+        void phases() {
+            // act
+            final var phases = calc(RevisedSimplex::new, TWO_PHASE);
+
+            // assert
+            assertThat(phases).hasSize(2);
+            assertThat(phases.get(0).tables()).extracting(SimplexTable::title).first().isEqualTo("INITIAL TABLE");
+            assertThat(phases.get(0).getLastTable().helperColumns()).isPositive();
+            assertThat(phases.get(1).getLastTable().rHS().get(0)).isEqualTo(new Fraction("-9"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with CertifiedSimplex")
+    class CertifiedSimplexTest {
+        @Test
+        @DisplayName("Solve problems with CertifiedSimplex like TwoPhaseSimplex")
+        void sameResult() {
+            PROBLEMS.forEach(problem -> assertSameResult(CertifiedSimplex::new, problem));
+        }
+
+        @Test
+        @DisplayName("Keep both phases if CertifiedSimplex needs phase 1")
+        void phases() {
+            // act
+            final var phases = calc(CertifiedSimplex::new, TWO_PHASE);
+
+            // assert
+            assertThat(phases).hasSize(2);
+            assertThat(phases.get(0).singlePhase()).isFalse();
+            assertThat(phases.get(1).singlePhase()).isFalse();
+            assertThat(phases.get(0).tables()).allMatch(table -> table.helperColumns() != 0);
+            assertThat(phases.get(0).tables().get(0).title()).isEqualTo("INITIAL TABLE");
+            assertThat(phases.get(0).getLastTable().title()).isEqualTo("CERTIFIED TABLE");
+            assertThat(phases.get(1).tables()).allMatch(table -> table.helperColumns() == 0);
+        }
+
+        @Test
+        @DisplayName("Certify an optimal basis of the floating point solve with CertifiedSimplex")
+        void certified() {
+            // arrange
+            final var problem = new Problem(false, OPTIMAL.objectiveFunction(), OPTIMAL.constraints().subList(0, 4));
+
+            // act
+            final var phases = calc(CertifiedSimplex::new, problem);
+
+            // assert
+            assertThat(phases).hasSize(1);
+            assertThat(phases.get(0).singlePhase()).isTrue();
+            assertThat(phases.get(0).tables()).extracting(SimplexTable::title)
+                    .containsExactly("INITIAL TABLE", "CERTIFIED TABLE");
+            assertThat(phases.get(0).getLastTable().rHS().get(0)).isEqualTo(new Fraction("10000"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Calculations with AdaptiveSimplex")
+    class AdaptiveSimplexTest {
+        @Test
+        @DisplayName("Solve problems with AdaptiveSimplex like TwoPhaseSimplex")
+        void sameResult() {
+            PROBLEMS.forEach(problem -> assertSameResult(AdaptiveSimplex::new, problem));
+        }
+
+        @Test
+        @DisplayName("Promote to fractions on a small pivot with AdaptiveSimplex")
+        void promote() {
+            // arrange
+            final var problem = new Problem(false, List.of("1", "1"), List.of(
+                    List.of("0.0000001", "1", "1", "<"),
+                    List.of("0", "1", "1", "<")
+            ));
+
+            // act
+            final var phases = calc(AdaptiveSimplex::new, problem);
+            final var result = solve(AdaptiveSimplex::new, problem);
+
+            // assert
+            assertThat(phases).hasSize(1);
+            assertThat(phases.get(0).tables()).extracting(SimplexTable::title)
+                    .containsExactly("INITIAL TABLE", "CERTIFIED TABLE", "ITERATION 1");
+            assertThat(result.objectiveValue()).isEqualTo(new Fraction("10000000"));
+            assertSameResult(AdaptiveSimplex::new, problem);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.danielptv.simplex.shell.table;
+
+import com.danielptv.simplex.entity.Bounds;
+import com.danielptv.simplex.entity.DenseTableau;
+import com.danielptv.simplex.entity.Pivot;
+import com.danielptv.simplex.entity.SimplexTable;
+import com.danielptv.simplex.entity.VariableKind;
+import com.danielptv.simplex.number.Fraction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.danielptv.simplex.entity.VariableKind.ARTIFICIAL;
+import static com.danielptv.simplex.entity.VariableKind.SLACK;
+import static com.danielptv.simplex.entity.VariableKind.STRUCTURAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@Tag("shell")
+@DisplayName("Table Labels Test")
+final class TableLabelsTest {
+    private static final List<VariableKind> VARIABLES = List.of(STRUCTURAL, STRUCTURAL, SLACK, SLACK, ARTIFICIAL);
+
+    private static SimplexTable<Fraction> table(final int[] basis, final int helperColumns, final Bounds<Fraction> bounds) {
+        return new SimplexTable<>(
+                "INITIAL TABLE",
+                new DenseTableau<>(basis.length, VARIABLES.size(), new Fraction()),
+                new Pivot<>(0, 0, new Fraction("1")),
+                VARIABLES,
+                basis,
+                helperColumns,
+                bounds
+        );
+    }
+
+    @Test
+    @DisplayName("Label the columns by the kind of their variable")
+    void columnHeaders() {
+        // arrange
+        final var table = table(new int[] {-1, 2, 3}, 0, null);
+
+        // act
+        final var headers = TableLabels.columnHeaders(table);
+
+        // assert
+        assertThat(headers).containsExactly("x1", "x2", "s1", "s2", "h1", "f");
+    }
+
+    @Test
+    @DisplayName("Label the rows by their basic variable and its column")
+    void rowHeaders() {
+        // arrange
+        final var table = table(new int[] {-1, -1, 1, 4, 6}, 2, null);
+
+        // act
+        final var headers = TableLabels.rowHeaders(table);
+
+        // assert
+        // column 6 is the second helper variable outside of the table
+        assertThat(headers).containsExactly("z'", "z", "x2[2]", "h1[5]", "h3[7]");
+    }
+
+    @Test
+    @DisplayName("Mark complemented variables")
+    void complemented() {
+        // arrange
+        final var zero = new Fraction();
+        final var bounds = new Bounds<>(
+                List.of(zero, zero),
+                List.of(new Fraction("5"), new Fraction("2")),
+                new boolean[] {false, true}
+        );
+        final var table = table(new int[] {-1, 1, 2}, 0, bounds);
+
+        // act
+        final var columns = TableLabels.columnHeaders(table);
+        final var rows = TableLabels.rowHeaders(table);
+
+        // assert
+        assertThat(columns).startsWith("x1", "x2'", "s1");
+        assertThat(rows).containsExactly("z", "x2'[2]", "s1[3]");
+    }
+}